@@ -5,37 +5,94 @@
 package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
 
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
 import java.net.ConnectException;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.avispl.symphony.api.dal.dto.monitor.GenericStatistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.CapacityTrend;
 import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
 import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionConstant;
 import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.PingMode;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.PropertyGroup;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.StreamFilter;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.StreamsSummary;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability.DeviceCapabilities;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture.CaptureMode;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture.CaptureStore;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture.RecordingInterceptor;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture.ReplayInterceptor;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent.DeviceExecutors;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent.SingleFlight;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http.GzipClientHttpRequestFactory;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.jfr.AdapterEvents;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http.GzipResponseInterceptor;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http.TransferStatistics;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.CompactStatisticsMap;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyCache;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyTable;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.logging.RateLimitedLog;
 import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.metric.*;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.persistence.SnapshotStore;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.metric.childSystem.SystemGPU;
 import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.metric.childSystem.SystemLoad;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.CircuitBreaker;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestBudget;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestSkippedException;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.HostResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology.StreamTopologyTracker;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace.PollTrace;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace.PollTracer;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace.TraceSpan;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology.TopologyEventType;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.CapturedExchange;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.PersistedSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.SectionSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.StreamEntry;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.TopologyEvent;
 import com.avispl.symphony.dal.util.StringUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.CollectionUtils;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -45,6 +102,9 @@ import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
 import org.springframework.web.client.RestTemplate;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
 
 import javax.security.auth.login.FailedLoginException;
 
@@ -78,6 +138,37 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * */
 	private ClientHttpRequestInterceptor haivisionInterceptor = new HaivisionX4EncoderInterceptor();
 
+	/**
+	 * Stream creations, deletions, renames and rewiring detected between polls
+	 */
+	private final StreamTopologyTracker topologyTracker = new StreamTopologyTracker(HaivisionConstant.TOPOLOGY_EVENT_CAPACITY);
+
+	/**
+	 * Traces of the most recent polls, with spans for the authentication, the sections, the stream enrichments
+	 * and the requests
+	 */
+	private final PollTracer pollTracer = new PollTracer(HaivisionConstant.TRACE_POLLS, HaivisionConstant.TRACE_MAX_SPANS);
+
+	/**
+	 * Slowest trace last written to the debug log
+	 */
+	private volatile PollTrace loggedSlowestTrace;
+
+	/**
+	 * Load of the most recent polls, the higher of the encoder utilization and the GPU load
+	 */
+	private final CapacityTrend capacityTrend = new CapacityTrend(HaivisionConstant.CAPACITY_TREND_SAMPLES);
+
+	/**
+	 * Byte counters of the device responses
+	 */
+	private final TransferStatistics transferStatistics = new TransferStatistics();
+
+	/**
+	 * Interceptor requesting gzip encoded responses and decoding them while they are parsed
+	 */
+	private final ClientHttpRequestInterceptor gzipInterceptor = new GzipResponseInterceptor(transferStatistics);
+
 	/**
 	 * HttpRequest interceptor to intercept cookie header and further use it for authentication
 	 *
@@ -94,20 +185,14 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 				List<String> cookieHeaders = headers.get(HaivisionConstant.SET_COOKIE);
 
                 if (cookieHeaders == null || cookieHeaders.isEmpty()) {
-					StringBuilder textBuilder = new StringBuilder();
-					try (Reader reader = new BufferedReader(new InputStreamReader
-							(response.getBody(), StandardCharsets.UTF_8))) {
-						int c;
-						while ((c = reader.read()) != -1) {
-							textBuilder.append((char) c);
-						}
+					String sessionId;
+					try (InputStream responseBody = response.getBody()) {
+						sessionId = extractSessionId(responseBody);
 					}
-					String responseBody = textBuilder.toString();
-					String sessionId = extractSessionId(responseBody);
 					if (sessionId != null) {
 						authenticationCookie = sessionId;
 					} else {
-						logger.error("Session ID not found in the response body.");
+						errorLog.error(HaivisionCommand.API_LOGIN, "Session ID not found in the response body.", null);
 						authenticationCookie = HaivisionConstant.EMPTY;
 					}
 				} else {
@@ -124,6 +209,109 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 		}
 	}
 
+	/**
+	 * Matches the session UUID carried by the login cookie
+	 */
+	private static final Pattern UUID_PATTERN = Pattern.compile("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}");
+
+	/**
+	 * Waits shorter than this are lock hand-over noise, not throttling
+	 */
+	private static final long THROTTLE_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * Formats epoch values as "MMM d, yyyy, h:mm a" in GMT; immutable and shared by every instance
+	 */
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d, yyyy, h:mm a").withZone(ZoneId.of("GMT"));
+
+	/**
+	 * Formatted dates keyed by their epoch value; values such as the license dates repeat on every poll
+	 */
+	private static final Map<String, String> FORMATTED_DATES = new ConcurrentHashMap<>();
+	private static final int FORMATTED_DATES_LIMIT = 256;
+
+	private static final SystemsEnum[] SYSTEMS_ITEMS = SystemsEnum.values();
+	private static final NetworkEnum[] NETWORK_ITEMS = NetworkEnum.values();
+	private static final NetworkInterfaceEnum[] NETWORK_INTERFACE_ITEMS = NetworkInterfaceEnum.values();
+	private static final LicenseEnum[] LICENSE_ITEMS = LicenseEnum.values();
+	private static final StreamInfoEnum[] STREAM_INFO_ITEMS = StreamInfoEnum.values();
+	private static final SystemLoad[] SYSTEM_LOAD_ITEMS = SystemLoad.values();
+	private static final SystemGPU[] SYSTEM_GPU_ITEMS = SystemGPU.values();
+
+	private static final PropertyKeyTable NETWORK_KEYS = PropertyKeyTable.of(HaivisionConstant.NETWORK, NETWORK_ITEMS, NetworkEnum::getName);
+	private static final PropertyKeyTable LICENSE_KEYS = PropertyKeyTable.of(HaivisionConstant.LICENSE, LICENSE_ITEMS, LicenseEnum::getName);
+	private static final PropertyKeyTable SYSTEM_LOAD_KEYS = PropertyKeyTable.of(HaivisionConstant.SYSTEM, SYSTEM_LOAD_ITEMS, SystemLoad::getName);
+	private static final PropertyKeyTable SERVICE_KEYS = new PropertyKeyTable(HaivisionConstant.SERVICE, HaivisionConstant.WEBSERVER_INTERFACE, HaivisionConstant.RTSP_SERVER_PORT);
+	private static final int SERVICE_WEBSERVER_INTERFACE = 0;
+	private static final int SERVICE_RTSP_SERVER_PORT = 1;
+	private static final TopologyEventType[] TOPOLOGY_EVENT_TYPES = TopologyEventType.values();
+	private static final PropertyKeyTable TOPOLOGY_KEYS = PropertyKeyTable.of(HaivisionConstant.TOPOLOGY_EVENTS, TOPOLOGY_EVENT_TYPES, TopologyEventType::getName);
+	private static final String TOPOLOGY_RECENT_KEY = (HaivisionConstant.TOPOLOGY_EVENTS + HaivisionConstant.HASH + "Recent").intern();
+	private static final String STREAM_MODE_PREFIX = "Mode";
+	private static final String STREAMS_TRANSCODER_KEY = (HaivisionConstant.STREAMS_SUMMARY + HaivisionConstant.HASH + STREAM_MODE_PREFIX + "Transcoder").intern();
+	private static final PropertyKeyTable REQUEST_BUDGET_KEYS = new PropertyKeyTable(HaivisionConstant.REQUEST_BUDGET, "ThrottledRequests", "ThrottleWait(ms)");
+	private static final PropertyKeyTable TRANSFER_KEYS = new PropertyKeyTable(HaivisionConstant.TRANSFER, "CompressedBytes", "UncompressedBytes", "SavedBytes(%)", "CompressedResponses");
+	private static final PropertyKeyTable STREAMS_SUMMARY_KEYS = new PropertyKeyTable(HaivisionConstant.STREAMS_SUMMARY, "Total", "WithOutputs", "WithoutOutputs", "TotalOutputs");
+	private static final PropertyKeyTable CAPACITY_KEYS = new PropertyKeyTable(HaivisionConstant.CAPACITY, "UsedEncoderSlots", "RemainingEncoderSlots",
+			"EncoderUtilization(%)", "GPUMemoryUsed(%)", "Headroom(%)", "ProjectedSaturation(s)");
+	private static final int CAPACITY_USED = 0;
+	private static final int CAPACITY_REMAINING = 1;
+	private static final int CAPACITY_UTILIZATION = 2;
+	private static final int CAPACITY_GPU_MEMORY = 3;
+	private static final int CAPACITY_HEADROOM = 4;
+	private static final int CAPACITY_SATURATION = 5;
+	private static final PropertyKeyTable CAPABILITIES_KEYS = new PropertyKeyTable(HaivisionConstant.CAPABILITIES, "FirmwareVersion", "UnsupportedEndpoints", "MissingFields");
+	private static final PropertyKeyTable RESTORED_SNAPSHOT_KEYS = new PropertyKeyTable(HaivisionConstant.POLL_STATUS, "RestoredSnapshotSavedAt", "RestoredSnapshotAge(s)");
+	private static final PropertyKeyTable POLL_TRACE_KEYS = new PropertyKeyTable(HaivisionConstant.POLL_TRACE, "SlowestTraceId", "SlowestStart",
+			"SlowestDuration(ms)", "SlowestSections", "SlowestPath");
+
+	/**
+	 * Key tables of streams, keyed by stream name
+	 */
+	private final PropertyKeyCache streamKeys = new PropertyKeyCache(
+			name -> PropertyKeyTable.of(HaivisionConstant.STREAM + name, STREAM_INFO_ITEMS, StreamInfoEnum::getName));
+
+	/**
+	 * Key tables of the stream counters by status, keyed by status as reported by the device. Counters seen once
+	 * keep being published, as 0 when no stream matches any more.
+	 */
+	private final PropertyKeyCache streamStatusKeys = new PropertyKeyCache(
+			status -> new PropertyKeyTable(HaivisionConstant.STREAMS_SUMMARY, "Status" + uppercaseFirstCharacter(status.toLowerCase())));
+
+	/**
+	 * Key tables of the stream counters by mode, keyed by mode display name. Counters seen once keep being
+	 * published, as 0 when no stream matches any more.
+	 */
+	private final PropertyKeyCache streamModeKeys = new PropertyKeyCache(
+			mode -> new PropertyKeyTable(HaivisionConstant.STREAMS_SUMMARY, STREAM_MODE_PREFIX + mode));
+
+	/**
+	 * Key tables of network interfaces, keyed by interface name
+	 */
+	private final PropertyKeyCache networkInterfaceKeys = new PropertyKeyCache(
+			name -> PropertyKeyTable.of(HaivisionConstant.NETWORK_INTERFACE + uppercaseFirstCharacter(name), NETWORK_INTERFACE_ITEMS, NetworkInterfaceEnum::getName));
+
+	/**
+	 * Key tables of GPUs, keyed by GPU index
+	 */
+	private final PropertyKeyCache gpuKeys = new PropertyKeyCache(
+			index -> PropertyKeyTable.of(HaivisionConstant.GPU + index, SYSTEM_GPU_ITEMS, SystemGPU::getName));
+
+	/**
+	 * Key tables of the circuit breakers, keyed by command
+	 */
+	private final PropertyKeyCache circuitBreakerKeys = new PropertyKeyCache(command -> {
+		String endpoint = HaivisionCommand.getEndpointName(command);
+		return new PropertyKeyTable(HaivisionConstant.CIRCUIT_BREAKER, endpoint + "State", endpoint + "ConsecutiveFailures",
+				endpoint + "RejectedRequests", endpoint + "RetryIn(s)");
+	});
+
+	/**
+	 * Key tables of the poll status, keyed by section
+	 */
+	private final PropertyKeyCache pollStatusKeys = new PropertyKeyCache(
+			section -> new PropertyKeyTable(HaivisionConstant.POLL_STATUS, section + "Stale", section + "Age(s)"));
+
 	/**
 	 * store authentication information
 	 */
@@ -135,10 +323,16 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * ObjectMapper instance used for converting between
-	 * Java objects and JSON representations.
+	 * Parser, executor and connection pools shared with the other adapter instances of the JVM,
+	 * acquired by {@link #internalInit()} and released by {@link #internalDestroy()}
 	 */
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private volatile SharedResources sharedResources;
+
+	/**
+	 * Request budget and other resources shared with the adapter instances of the JVM talking to the same host,
+	 * acquired by {@link #internalInit()} and released by {@link #internalDestroy()}
+	 */
+	private volatile HostResources hostResources;
 
 	/**
 	 * A set containing system info.
@@ -146,10 +340,15 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	private Set<String> allSystemInfoSet = new HashSet<>();
 
 	/**
-	 * A set containing stream info.
+	 * Property groups of the monitored streams, without the stream prefix
 	 */
 	private Set<String> allStreamNameSet = new HashSet<>();
 
+	/**
+	 * Property blocks of the monitored streams, keyed by stream UUID
+	 */
+	private final Map<String, StreamEntry> streamEntries = new ConcurrentHashMap<>();
+
 	/**
 	 * A set containing network info.
 	 */
@@ -168,7 +367,7 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	/**
 	 * Checking first time init
 	 * */
-	private boolean firstTimeInit = false;
+	private volatile boolean firstTimeInit = false;
 
 	/**
 	 * isEmergencyDelivery to check if control flow is trigger
@@ -178,13 +377,123 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	/**
 	 * A cache that maps route names to their corresponding values.
 	 */
-	private final Map<String, String> cacheValue = new HashMap<>();
+	private final Map<String, String> cacheValue = new ConcurrentHashMap<>();
 
 	/**
 	 * ping mode
 	 */
 	private PingMode pingMode = PingMode.ICMP;
 
+	/**
+	 * Comma separated property groups to collect, see {@link PropertyGroup}. Empty collects every group.
+	 */
+	private String propertyGroups = HaivisionConstant.EMPTY;
+
+	/**
+	 * Property groups selected by {@link #propertyGroups}
+	 */
+	private Set<PropertyGroup> enabledGroups = PropertyGroup.ofList(HaivisionConstant.EMPTY);
+
+	/**
+	 * Retrieves {@link #propertyGroups}
+	 *
+	 * @return value of {@link #propertyGroups}
+	 */
+	public String getPropertyGroups() {
+		return propertyGroups;
+	}
+
+	/**
+	 * Sets {@link #propertyGroups} value
+	 *
+	 * @param propertyGroups new value of {@link #propertyGroups}
+	 */
+	public void setPropertyGroups(String propertyGroups) {
+		this.propertyGroups = propertyGroups;
+		this.enabledGroups = PropertyGroup.ofList(propertyGroups);
+		// stream blocks were built for the previous groups
+		streamEntries.clear();
+		streamStatusKeys.clear();
+		streamModeKeys.clear();
+	}
+
+	/**
+	 * Filter built from {@link #streamIncludeFilter}, {@link #streamExcludeFilter} and {@link #streamModeFilter}
+	 */
+	private volatile StreamFilter streamFilter = StreamFilter.ACCEPT_ALL;
+
+	/**
+	 * Regex on stream name or UUID, only matching streams are monitored. Empty monitors every stream.
+	 */
+	private String streamIncludeFilter = HaivisionConstant.EMPTY;
+
+	/**
+	 * Retrieves {@link #streamIncludeFilter}
+	 *
+	 * @return value of {@link #streamIncludeFilter}
+	 */
+	public String getStreamIncludeFilter() {
+		return streamIncludeFilter;
+	}
+
+	/**
+	 * Sets {@link #streamIncludeFilter} value
+	 *
+	 * @param streamIncludeFilter new value of {@link #streamIncludeFilter}
+	 */
+	public void setStreamIncludeFilter(String streamIncludeFilter) {
+		this.streamIncludeFilter = streamIncludeFilter;
+		this.streamFilter = StreamFilter.of(streamIncludeFilter, streamExcludeFilter, streamModeFilter);
+	}
+
+	/**
+	 * Regex on stream name or UUID, matching streams are not monitored. Empty excludes nothing.
+	 */
+	private String streamExcludeFilter = HaivisionConstant.EMPTY;
+
+	/**
+	 * Retrieves {@link #streamExcludeFilter}
+	 *
+	 * @return value of {@link #streamExcludeFilter}
+	 */
+	public String getStreamExcludeFilter() {
+		return streamExcludeFilter;
+	}
+
+	/**
+	 * Sets {@link #streamExcludeFilter} value
+	 *
+	 * @param streamExcludeFilter new value of {@link #streamExcludeFilter}
+	 */
+	public void setStreamExcludeFilter(String streamExcludeFilter) {
+		this.streamExcludeFilter = streamExcludeFilter;
+		this.streamFilter = StreamFilter.of(streamIncludeFilter, streamExcludeFilter, streamModeFilter);
+	}
+
+	/**
+	 * Comma separated stream modes to monitor, e.g. "transcoder, bypass". Empty monitors every mode.
+	 */
+	private String streamModeFilter = HaivisionConstant.EMPTY;
+
+	/**
+	 * Retrieves {@link #streamModeFilter}
+	 *
+	 * @return value of {@link #streamModeFilter}
+	 */
+	public String getStreamModeFilter() {
+		return streamModeFilter;
+	}
+
+	/**
+	 * Sets {@link #streamModeFilter} value
+	 *
+	 * @param streamModeFilter new value of {@link #streamModeFilter}
+	 */
+	public void setStreamModeFilter(String streamModeFilter) {
+		this.streamModeFilter = streamModeFilter;
+		this.streamFilter = StreamFilter.of(streamIncludeFilter, streamExcludeFilter, streamModeFilter);
+	}
+
 	/**
 	 * Retrieves {@link #pingMode}
 	 *
@@ -206,422 +515,1883 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	private GenericStatistics genericStatistics = new GenericStatistics();
 
 	/**
-	 * Constructs a new instance of HaivisionKrakenCommunicator.
+	 * Populates a single statistics section
 	 */
-	public HaivisionKrakenCommunicator() throws IOException {
-		this.setTrustAllCertificates(true);
+	private interface SectionPopulator {
+		void populate(Map<String, String> stats) throws Exception;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
-	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * Statistics sections in publishing order
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
-		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
-
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new RuntimeException("Socket connection timed out", tex);
-					} catch (UnknownHostException ex) {
-						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
-				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-			} else {
-				throw new IllegalStateException("Cannot use device class without calling init() first");
-			}
-		} else {
-			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
-		}
-	}
+	private final Map<String, SectionPopulator> sections = new LinkedHashMap<>();
 
 	/**
-	 * {@inheritDoc}
+	 * Last good values of each statistics section
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-		Map<String, String> request = new HashMap<>();
-		request.put("username", getLogin());
-		request.put("password", getPassword());
-		doPost(buildDeviceFullPath(HaivisionCommand.API_LOGIN), request);
-	}
+	private final Map<String, SectionSnapshot> lastGoodSections = new ConcurrentHashMap<>();
 
 	/**
-	 * {@inheritDoc}
+	 * Latest run of each statistics section
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-		super.internalInit();
-	}
+	private final Map<String, Future<Map<String, String>>> sectionFutures = new ConcurrentHashMap<>();
 
 	/**
-	 * {@inheritDoc}
+	 * Executor running the statistics sections of a poll
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
-			deleteCookieSession();
-		}
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
-		}
-		localExtendedStatistics = null;
-		cacheValue.clear();
-		super.internalDestroy();
-	}
+	private ExecutorService pollExecutor;
 
 	/**
-	 * {@inheritDoc}
+	 * Executor running the per-entity lookups (input, output, transcoder and metadata of a stream)
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
-			headers.add(HaivisionConstant.COOKIE, "DisplayUnsavedWarning=true; Path=/; Secure;");
-			headers.add(HaivisionConstant.COOKIE, String.format("id=%s; Path=/; Secure; HttpOnly;", this.authenticationCookie));
-		}
-		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	private ExecutorService lookupExecutor;
+
+	/**
+	 * Executor running the HTTP ping attempts, apart from the poll so a busy poll does not delay the ping
+	 */
+	private ExecutorService pingExecutor;
+
+	/**
+	 * Maximum number of per-entity lookups running at the same time
+	 */
+	private int lookupConcurrency = HaivisionConstant.DEFAULT_LOOKUP_CONCURRENCY;
+
+	/**
+	 * Retrieves {@link #lookupConcurrency}
+	 *
+	 * @return value of {@link #lookupConcurrency}
+	 */
+	public int getLookupConcurrency() {
+		return lookupConcurrency;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #lookupConcurrency} value
+	 *
+	 * @param lookupConcurrency new value of {@link #lookupConcurrency}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			Map<String, String> stats = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			if (!isEmergencyDelivery) {
-				if (!isValidCookie()) {
-					throw new FailedLoginException("Failed to login to device");
-				}
-				populateSystemInfo(stats);
-				populateNetworkInfo(stats);
-				populateLicenseInfo(stats);
-				populateStreamsInfo(stats);
-				populateSystemLoadInfo(stats);
-				populateServiceInfo(stats);
-				populateGenerateStatistics(stats);
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
-			}
-			isEmergencyDelivery = false;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Arrays.asList(localExtendedStatistics, genericStatistics);
+	public void setLookupConcurrency(int lookupConcurrency) {
+		this.lookupConcurrency = Math.max(1, lookupConcurrency);
 	}
 
-	@Override
-	protected RestTemplate obtainRestTemplate() throws Exception {
-		RestTemplate restTemplate = super.obtainRestTemplate();
-		List<ClientHttpRequestInterceptor> restTemplateInterceptors = restTemplate.getInterceptors();
+	/**
+	 * Overall deadline of a statistics poll in milliseconds
+	 */
+	private long pollTimeout = HaivisionConstant.DEFAULT_POLL_TIMEOUT;
 
-		if (!restTemplateInterceptors.contains(haivisionInterceptor))
-			restTemplateInterceptors.add(haivisionInterceptor);
+	/**
+	 * Retrieves {@link #pollTimeout}
+	 *
+	 * @return value of {@link #pollTimeout}
+	 */
+	public long getPollTimeout() {
+		return pollTimeout;
+	}
 
-		return restTemplate;
+	/**
+	 * Sets {@link #pollTimeout} value
+	 *
+	 * @param pollTimeout new value of {@link #pollTimeout}
+	 */
+	public void setPollTimeout(long pollTimeout) {
+		this.pollTimeout = pollTimeout > 0 ? pollTimeout : HaivisionConstant.DEFAULT_POLL_TIMEOUT;
 	}
 
 	/**
-	 * generate GenericStatistics for adaptor
+	 * Directory the last known snapshot is persisted to, so statistics are available right after a restart.
+	 * Empty disables persistence.
+	 */
+	private String snapshotDirectory = HaivisionConstant.EMPTY;
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
 	 *
-	 * @param stats a map to store system information as key-value pairs
+	 * @return value of {@link #snapshotDirectory}
 	 */
-	private void populateGenerateStatistics(Map<String, String> stats) {
-		String systemCPU = HaivisionConstant.SYSTEM + HaivisionConstant.HASH + SystemLoad.SYS_CPU_LOAD.getName();
-		String systemUptime = HaivisionConstant.SYSTEM + HaivisionConstant.HASH + SystemLoad.SYS_UP_TIME.getName();
-		if(stats.get(systemCPU) != null){
-			 genericStatistics.setCpuPercentage(Float.valueOf(stats.get(systemCPU)));
-			stats.remove(systemCPU);
-		}
-		if(stats.get(systemUptime) != null) {
-			genericStatistics.setUpTime(Long.parseLong(stats.get(systemUptime)) * 1000L);
-			stats.remove(systemUptime);
-		}
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
 	}
 
 	/**
-	 * Populates system information into the provided stats map by retrieving data from the system info endpoint.
+	 * Sets {@link #snapshotDirectory} value
 	 *
-	 * @param stats a map to store system information as key-value pairs
-	 * @throws ResourceNotReachableException if the system information cannot be retrieved
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
 	 */
-	private void populateSystemInfo(Map<String, String> stats) throws Exception{
-		try {
-			// retrieve data
-			JsonNode response = this.doGet(HaivisionCommand.GET_SYSTEM_INFO, JsonNode.class);
-			if (response != null && response.has(HaivisionConstant.RESULT) && response.get(HaivisionConstant.RESULT).asBoolean()) {
-				allSystemInfoSet.clear();
-				for (SystemsEnum item : SystemsEnum.values()) {
-					if (response.has(item.getField())) {
-						cacheValue.put(item.getName(), response.get(item.getField()).asText());
-					}
-				}
-				//populate system
-				for (SystemsEnum system : SystemsEnum.values()){
-					String systemName = system.getName();
-					String value = getDefaultValueForNullData(cacheValue.get(systemName));
-					if (system == SystemsEnum.CURRENTTIME) {
-						stats.put(systemName, formatMillisecondsToDate(value));
-					} else {
-						stats.put(systemName, value);
-					}
-				}
-			}
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when retrieving system info", e);
-		}
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
 	}
 
 	/**
-	 * Populates network information into the provided stats map by retrieving data from the network info endpoint.
+	 * Whether device responses are only exchanged with the device, also recorded to {@link #captureDirectory},
+	 * or replayed from it without any device
+	 */
+	private CaptureMode captureMode = CaptureMode.OFF;
+
+	/**
+	 * Retrieves {@link #captureMode}
 	 *
-	 * @param stats a map to store network information as key-value pairs
-	 * @throws ResourceNotReachableException if the network information cannot be retrieved
+	 * @return value of {@link #captureMode}
 	 */
-	private void populateNetworkInfo(Map<String, String> stats) throws Exception{
-		try {
-			// Retrieve data
-			JsonNode response = this.doGet(HaivisionCommand.GET_NETWORK_INFO, JsonNode.class);
-			if (response != null && response.has(HaivisionConstant.NICS) && response.get(HaivisionConstant.NICS).isArray()) {
-				allNetworkSet.clear();
+	public CaptureMode getCaptureMode() {
+		return captureMode;
+	}
 
-				for (NetworkEnum networkEnum : NetworkEnum.values()) {
-					cacheValue.put(networkEnum.getName(), response.get(networkEnum.getField()).asText());
+	/**
+	 * Sets {@link #captureMode} value
+	 *
+	 * @param captureMode new value of {@link #captureMode}
+	 */
+	public void setCaptureMode(CaptureMode captureMode) {
+		this.captureMode = captureMode != null ? captureMode : CaptureMode.OFF;
+	}
+
+	/**
+	 * Directory of the captured device responses. Empty disables recording and replay.
+	 */
+	private String captureDirectory = HaivisionConstant.EMPTY;
+
+	/**
+	 * Retrieves {@link #captureDirectory}
+	 *
+	 * @return value of {@link #captureDirectory}
+	 */
+	public String getCaptureDirectory() {
+		return captureDirectory;
+	}
+
+	/**
+	 * Sets {@link #captureDirectory} value
+	 *
+	 * @param captureDirectory new value of {@link #captureDirectory}
+	 */
+	public void setCaptureDirectory(String captureDirectory) {
+		this.captureDirectory = captureDirectory;
+	}
+
+	/**
+	 * Speed factor of a replay: 1 keeps the recorded response times, 10 replays ten times faster,
+	 * 0 or less replays without delay
+	 */
+	private double replaySpeed = HaivisionConstant.DEFAULT_REPLAY_SPEED;
+
+	/**
+	 * Retrieves {@link #replaySpeed}
+	 *
+	 * @return value of {@link #replaySpeed}
+	 */
+	public double getReplaySpeed() {
+		return replaySpeed;
+	}
+
+	/**
+	 * Sets {@link #replaySpeed} value
+	 *
+	 * @param replaySpeed new value of {@link #replaySpeed}
+	 */
+	public void setReplaySpeed(double replaySpeed) {
+		this.replaySpeed = replaySpeed;
+	}
+
+	/**
+	 * Capture being recorded, null unless recording
+	 */
+	private CaptureStore captureStore;
+
+	/**
+	 * Interceptor recording or replaying the device responses, null when capture is off
+	 */
+	private volatile ClientHttpRequestInterceptor captureInterceptor;
+
+	/**
+	 * Store of the last known snapshot, null when persistence is disabled
+	 */
+	private SnapshotStore snapshotStore;
+
+	/**
+	 * Writes the snapshots to {@link #snapshotStore} off the poll thread, null when persistence is disabled
+	 */
+	private ExecutorService snapshotWriter;
+
+	/**
+	 * Latest snapshot not written yet; a poll replaces the snapshot of a previous poll still waiting for the writer
+	 */
+	private final AtomicReference<PersistedSnapshot> pendingSnapshot = new AtomicReference<>();
+
+	/**
+	 * True while the statistics restored from {@link #snapshotStore} have not been served yet
+	 */
+	private volatile boolean snapshotRestored;
+
+	/**
+	 * Poll started in the background when the restored statistics were served
+	 */
+	private volatile Future<?> backgroundPoll;
+
+	/**
+	 * Time in milliseconds {@link #internalDestroy()} waits for the logout request before going on
+	 */
+	private long destroyTimeout = HaivisionConstant.DEFAULT_DESTROY_TIMEOUT;
+
+	/**
+	 * Retrieves {@link #destroyTimeout}
+	 *
+	 * @return value of {@link #destroyTimeout}
+	 */
+	public long getDestroyTimeout() {
+		return destroyTimeout;
+	}
+
+	/**
+	 * Sets {@link #destroyTimeout} value
+	 *
+	 * @param destroyTimeout new value of {@link #destroyTimeout}
+	 */
+	public void setDestroyTimeout(long destroyTimeout) {
+		this.destroyTimeout = destroyTimeout > 0 ? destroyTimeout : HaivisionConstant.DEFAULT_DESTROY_TIMEOUT;
+	}
+
+	/**
+	 * Login and static data prefetch started by {@link #internalInit()}
+	 */
+	private volatile Future<?> warmUp;
+
+	/**
+	 * True when the session opened by the warm-up has not been used by a poll yet
+	 */
+	private volatile boolean warmSession;
+
+	/**
+	 * Requests per second allowed to the device host, shared by the adapters of that host. 0 or less disables the limit.
+	 */
+	private double requestsPerSecond = HaivisionConstant.DEFAULT_REQUESTS_PER_SECOND;
+
+	/**
+	 * Retrieves {@link #requestsPerSecond}
+	 *
+	 * @return value of {@link #requestsPerSecond}
+	 */
+	public double getRequestsPerSecond() {
+		return requestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #requestsPerSecond} value
+	 *
+	 * @param requestsPerSecond new value of {@link #requestsPerSecond}
+	 */
+	public void setRequestsPerSecond(double requestsPerSecond) {
+		this.requestsPerSecond = requestsPerSecond;
+	}
+
+	/**
+	 * Requests in flight allowed to the device host, shared by the adapters of that host. 0 or less disables the limit.
+	 */
+	private int maxConcurrentRequests = HaivisionConstant.DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+	/**
+	 * Retrieves {@link #maxConcurrentRequests}
+	 *
+	 * @return value of {@link #maxConcurrentRequests}
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentRequests} value
+	 *
+	 * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	/**
+	 * Requests of this adapter that had to wait for the request budget
+	 */
+	private final AtomicLong throttledRequests = new AtomicLong();
+
+	/**
+	 * Total time requests of this adapter waited for the request budget, in nanoseconds
+	 */
+	private final AtomicLong throttleWaitNanos = new AtomicLong();
+
+	/**
+	 * Coalesces concurrent statistics requests into a single collection
+	 */
+	private final SingleFlight<String, List<Statistics>> statisticsFlight = new SingleFlight<>(false);
+
+	/**
+	 * Responses of the running poll keyed by url, null outside a poll
+	 */
+	private volatile SingleFlight<String, JsonNode> pollRequests;
+
+	/**
+	 * Deadline of the running poll in nanoseconds, see {@link System#nanoTime()}
+	 */
+	private volatile long pollDeadline;
+
+	/**
+	 * Static endpoint responses fetched by the warm-up, consumed once by the first poll
+	 */
+	private final Map<String, JsonNode> prefetched = new ConcurrentHashMap<>();
+
+	/**
+	 * Endpoints and optional fields exposed by the firmware of the device, null until its version is known
+	 */
+	private volatile DeviceCapabilities capabilities;
+
+	/**
+	 * Time in milliseconds the firmware version was last read, 0 to read it at the next poll
+	 */
+	private volatile long capabilitiesCheckedAt;
+
+	/**
+	 * Circuit breakers keyed by command (url template) of the endpoint they guard
+	 */
+	private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of consecutive failures that opens the circuit breaker of an endpoint
+	 */
+	private int breakerFailureThreshold = HaivisionConstant.DEFAULT_BREAKER_FAILURE_THRESHOLD;
+
+	/**
+	 * Backoff in milliseconds applied the first time the breaker of an endpoint opens
+	 */
+	private long breakerBaseBackoff = HaivisionConstant.DEFAULT_BREAKER_BASE_BACKOFF;
+
+	/**
+	 * Upper bound in milliseconds of the backoff of an endpoint
+	 */
+	private long breakerMaxBackoff = HaivisionConstant.DEFAULT_BREAKER_MAX_BACKOFF;
+
+	/**
+	 * Sliding window in milliseconds over which similar errors are rate limited
+	 */
+	private long errorLogWindow = HaivisionConstant.DEFAULT_ERROR_LOG_WINDOW;
+
+	/**
+	 * Number of errors of the same source and class logged per {@link #errorLogWindow}
+	 */
+	private int errorLogLimit = HaivisionConstant.DEFAULT_ERROR_LOG_LIMIT;
+
+	/**
+	 * Error log of the polls, deduplicated per endpoint or section and error class so a failing device
+	 * does not flood the log
+	 */
+	private final RateLimitedLog errorLog = new RateLimitedLog(logger, errorLogWindow, errorLogLimit);
+
+	/**
+	 * Retrieves {@link #errorLogWindow}
+	 *
+	 * @return value of {@link #errorLogWindow}
+	 */
+	public long getErrorLogWindow() {
+		return errorLogWindow;
+	}
+
+	/**
+	 * Sets {@link #errorLogWindow} value
+	 *
+	 * @param errorLogWindow new value of {@link #errorLogWindow}
+	 */
+	public void setErrorLogWindow(long errorLogWindow) {
+		this.errorLogWindow = errorLogWindow;
+		errorLog.setLimits(errorLogWindow, errorLogLimit);
+	}
+
+	/**
+	 * Retrieves {@link #errorLogLimit}
+	 *
+	 * @return value of {@link #errorLogLimit}
+	 */
+	public int getErrorLogLimit() {
+		return errorLogLimit;
+	}
+
+	/**
+	 * Sets {@link #errorLogLimit} value
+	 *
+	 * @param errorLogLimit new value of {@link #errorLogLimit}
+	 */
+	public void setErrorLogLimit(int errorLogLimit) {
+		this.errorLogLimit = errorLogLimit;
+		errorLog.setLimits(errorLogWindow, errorLogLimit);
+	}
+
+	/**
+	 * Retrieves {@link #breakerFailureThreshold}
+	 *
+	 * @return value of {@link #breakerFailureThreshold}
+	 */
+	public int getBreakerFailureThreshold() {
+		return breakerFailureThreshold;
+	}
+
+	/**
+	 * Sets {@link #breakerFailureThreshold} value
+	 *
+	 * @param breakerFailureThreshold new value of {@link #breakerFailureThreshold}
+	 */
+	public void setBreakerFailureThreshold(int breakerFailureThreshold) {
+		this.breakerFailureThreshold = breakerFailureThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #breakerBaseBackoff}
+	 *
+	 * @return value of {@link #breakerBaseBackoff}
+	 */
+	public long getBreakerBaseBackoff() {
+		return breakerBaseBackoff;
+	}
+
+	/**
+	 * Sets {@link #breakerBaseBackoff} value
+	 *
+	 * @param breakerBaseBackoff new value of {@link #breakerBaseBackoff}
+	 */
+	public void setBreakerBaseBackoff(long breakerBaseBackoff) {
+		this.breakerBaseBackoff = breakerBaseBackoff;
+	}
+
+	/**
+	 * Retrieves {@link #breakerMaxBackoff}
+	 *
+	 * @return value of {@link #breakerMaxBackoff}
+	 */
+	public long getBreakerMaxBackoff() {
+		return breakerMaxBackoff;
+	}
+
+	/**
+	 * Sets {@link #breakerMaxBackoff} value
+	 *
+	 * @param breakerMaxBackoff new value of {@link #breakerMaxBackoff}
+	 */
+	public void setBreakerMaxBackoff(long breakerMaxBackoff) {
+		this.breakerMaxBackoff = breakerMaxBackoff;
+	}
+
+	/**
+	 * Constructs a new instance of HaivisionKrakenCommunicator.
+	 */
+	public HaivisionKrakenCommunicator() throws IOException {
+		this.setTrustAllCertificates(true);
+		sections.put(HaivisionConstant.SYSTEM, this::populateSystemInfo);
+		sections.put(HaivisionConstant.NETWORK, this::populateNetworkInfo);
+		sections.put(HaivisionConstant.LICENSE, this::populateLicenseInfo);
+		sections.put(HaivisionConstant.STREAMS, this::populateStreamsInfo);
+		sections.put(HaivisionConstant.SYSTEM_LOAD, this::populateSystemLoadInfo);
+		sections.put(HaivisionConstant.SERVICE, this::populateServiceInfo);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (captureMode == CaptureMode.REPLAY && captureInterceptor != null) {
+			// a replay runs without the device
+			return 1;
+		}
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
+		} else if (this.pingMode == PingMode.TCP || this.pingMode == PingMode.HTTP) {
+			if (!isInitialized()) {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+			return this.pingMode == PingMode.TCP ? tcpPing() : httpPing();
+		} else {
+			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+		}
+	}
+
+	/**
+	 * Opens all ping attempts at once as non-blocking connections and waits for them on a single selector,
+	 * bounded by the ping timeout
+	 *
+	 * @return average connect time in milliseconds, or the ping timeout if an attempt did not connect in time
+	 */
+	private int tcpPing() throws Exception {
+		int attempts = Math.max(1, this.getPingAttempts());
+		InetSocketAddress address = new InetSocketAddress(this.host, this.getPort());
+		if (address.isUnresolved()) {
+			throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+		}
+		List<SocketChannel> channels = new ArrayList<>(attempts);
+		long pingResultTotal = 0L;
+		int connected = 0;
+		try (Selector selector = Selector.open()) {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getPingTimeout());
+			for (int i = 0; i < attempts; i++) {
+				SocketChannel channel = SocketChannel.open();
+				channels.add(channel);
+				channel.configureBlocking(false);
+				long startTime = System.nanoTime();
+				if (channel.connect(address)) {
+					pingResultTotal += System.nanoTime() - startTime;
+					connected++;
+				} else {
+					channel.register(selector, SelectionKey.OP_CONNECT, startTime);
+				}
+			}
+			while (connected < attempts) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (((SocketChannel) key.channel()).finishConnect()) {
+						long pingResult = System.nanoTime() - (Long) key.attachment();
+						pingResultTotal += pingResult;
+						connected++;
+						key.cancel();
+						if (this.logger.isTraceEnabled()) {
+							this.logger.trace(String.format("PING OK: Attempt to connect to %s on port %s succeeded in %s ms", host, this.getPort(),
+									TimeUnit.NANOSECONDS.toMillis(pingResult)));
+						}
+					}
+				}
+			}
+		} catch (ConnectException tex) {
+			throw new RuntimeException("Socket connection timed out", tex);
+		} catch (Exception e) {
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+			}
+			return this.getPingTimeout();
+		} finally {
+			for (SocketChannel channel : channels) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					// nothing to do, the attempt is over
+				}
+			}
+		}
+		if (connected < attempts) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+			}
+			return this.getPingTimeout();
+		}
+		return Math.max(1, Math.toIntExact(TimeUnit.NANOSECONDS.toMillis(pingResultTotal / attempts)));
+	}
+
+	/**
+	 * Times lightweight GETs of the system info over the pooled, authenticated connection, so the result
+	 * reflects the responsiveness of the API rather than reachability only. Attempts run concurrently on
+	 * {@link #pingExecutor} within a single deadline of the ping timeout, and go through the circuit breaker
+	 * and the request budget like any other request. Only a successful answer counts: an error status,
+	 * e.g. 401 on an expired session, or a request skipped by an open breaker fails the ping.
+	 *
+	 * @return average response time in milliseconds, or the ping timeout if the API did not answer in time
+	 */
+	private int httpPing() throws InterruptedException {
+		int attempts = Math.max(1, this.getPingAttempts());
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getPingTimeout());
+		List<Future<Long>> futures = new ArrayList<>(attempts);
+		long pingResultTotal = 0L;
+		try {
+			for (int i = 0; i < attempts; i++) {
+				futures.add(pingExecutor.submit(() -> {
+					long startTime = System.nanoTime();
+					request(HaivisionCommand.GET_SYSTEM_INFO, HaivisionCommand.GET_SYSTEM_INFO);
+					return System.nanoTime() - startTime;
+				}));
+			}
+			for (Future<Long> future : futures) {
+				long pingResult = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				pingResultTotal += pingResult;
+				if (this.logger.isTraceEnabled()) {
+					this.logger.trace(String.format("PING OK: Request to %s succeeded in %s ms", host, TimeUnit.NANOSECONDS.toMillis(pingResult)));
+				}
+			}
+		} catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+			if (this.logger.isWarnEnabled()) {
+				Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+				this.logger.warn(String.format("PING TIMEOUT: Request to %s did not succeed, ERROR %s: ", host, cause.getMessage()));
+			}
+			return this.getPingTimeout();
+		} finally {
+			futures.forEach(f -> f.cancel(true));
+		}
+		long average = TimeUnit.NANOSECONDS.toMillis(pingResultTotal / attempts);
+		return average > this.getPingTimeout() ? this.getPingTimeout() : Math.max(1, Math.toIntExact(average));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+		Map<String, String> request = new HashMap<>();
+		request.put("username", getLogin());
+		request.put("password", getPassword());
+		Object event = AdapterEvents.beginAuthentication(HaivisionConstant.LOGIN);
+		TraceSpan span = pollTracer.start(HaivisionConstant.LOGIN);
+		try {
+			doPost(buildDeviceFullPath(HaivisionCommand.API_LOGIN), request);
+		} finally {
+			pollTracer.end(span);
+			AdapterEvents.endAuthentication(event, StringUtils.isNotNullOrEmpty(authenticationCookie));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		sharedResources = SharedResources.acquire();
+		hostResources = sharedResources.acquireHost(getHost());
+		pollExecutor = sharedResources.newExecutor(sections.size());
+		lookupExecutor = sharedResources.newExecutor(lookupConcurrency);
+		pingExecutor = sharedResources.newExecutor(Math.max(1, getPingAttempts()));
+		if (logger.isDebugEnabled()) {
+			logger.debug("Device I/O runs on " + (DeviceExecutors.isVirtual() ? "virtual threads" : "platform threads"));
+		}
+		restoreSnapshot();
+		startCapture();
+		super.internalInit();
+		startWarmUp();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		// stop the running work first: queued and waiting tasks are interrupted, a request already sent ends
+		// at the latest with the socket timeout, as the pooled client is shared and stays open
+		cancel(warmUp);
+		warmUp = null;
+		cancel(backgroundPoll);
+		backgroundPoll = null;
+		if (pollExecutor != null) {
+			pollExecutor.shutdownNow();
+			pollExecutor = null;
+		}
+		if (lookupExecutor != null) {
+			lookupExecutor.shutdownNow();
+			lookupExecutor = null;
+		}
+		if (pingExecutor != null) {
+			pingExecutor.shutdownNow();
+			pingExecutor = null;
+		}
+		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
+			logoutWithTimeout();
+		}
+		stopCapture();
+		if (snapshotWriter != null) {
+			// the pending write, if any, still completes
+			snapshotWriter.shutdown();
+			snapshotWriter = null;
+		}
+		snapshotRestored = false;
+		warmSession = false;
+		firstTimeInit = false;
+		prefetched.clear();
+		localExtendedStatistics = null;
+		cacheValue.clear();
+		circuitBreakers.clear();
+		transferStatistics.reset();
+		throttledRequests.set(0);
+		throttleWaitNanos.set(0);
+		topologyTracker.reset();
+		capacityTrend.clear();
+		errorLog.clear();
+		pollTracer.clear();
+		loggedSlowestTrace = null;
+		capabilities = null;
+		capabilitiesCheckedAt = 0;
+		streamKeys.clear();
+		streamEntries.clear();
+		streamStatusKeys.clear();
+		streamModeKeys.clear();
+		networkInterfaceKeys.clear();
+		gpuKeys.clear();
+		lastGoodSections.clear();
+		sectionFutures.clear();
+		super.internalDestroy();
+		if (sharedResources != null) {
+			sharedResources.releaseHost(hostResources);
+			hostResources = null;
+		}
+		SharedResources.release(sharedResources);
+		sharedResources = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
+			headers.add(HaivisionConstant.COOKIE, "DisplayUnsavedWarning=true; Path=/; Secure;");
+			headers.add(HaivisionConstant.COOKIE, String.format("id=%s; Path=/; Secure; HttpOnly;", this.authenticationCookie));
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		if (snapshotRestored) {
+			// serve the persisted snapshot right away, the first real poll runs in the background
+			snapshotRestored = false;
+			startBackgroundPoll();
+			return Arrays.asList(localExtendedStatistics, genericStatistics);
+		}
+		Future<?> pending = backgroundPoll;
+		if (pending != null) {
+			if (!pending.isDone()) {
+				return Arrays.asList(localExtendedStatistics, genericStatistics);
+			}
+			backgroundPoll = null;
+		}
+		return statisticsFlight.execute(HaivisionConstant.STATISTICS, this::collectStatistics);
+	}
+
+	/**
+	 * Collects the statistics unless they were just refreshed by a control. Callers go through
+	 * {@link #statisticsFlight}, so concurrent requests share a single collection.
+	 *
+	 * @return extended and generic statistics
+	 * @throws Exception if the collection failed
+	 */
+	private List<Statistics> collectStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			if (!isEmergencyDelivery) {
+				pollStatistics();
+			}
+			isEmergencyDelivery = false;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Arrays.asList(localExtendedStatistics, genericStatistics);
+	}
+
+	/**
+	 * Runs a full statistics poll, replacing {@link #localExtendedStatistics} and persisting the result.
+	 * The caller holds {@link #reentrantLock}.
+	 *
+	 * @throws Exception if the login failed or no section could be populated
+	 */
+	private void pollStatistics() throws Exception {
+		Map<String, String> stats = new HashMap<>();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		PollTrace trace = pollTracer.begin();
+		try {
+			if (!isValidCookie()) {
+				throw new FailedLoginException("Failed to login to device");
+			}
+			Object event = AdapterEvents.beginPoll();
+			boolean success = false;
+			pollDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeout);
+			pollRequests = new SingleFlight<>(true);
+			try {
+				resolveCapabilities();
+				populateSections(stats);
+				success = true;
+			} finally {
+				pollRequests = null;
+				prefetched.clear();
+				if (!success) {
+					// the device may be rebooting into another firmware, read its version again
+					capabilitiesCheckedAt = 0;
+				}
+				errorLog.flush();
+				AdapterEvents.endPoll(event, stats.size(), success);
+			}
+		} finally {
+			pollTracer.finish(trace);
+			logSlowestTrace();
+		}
+		populatePollTraceInfo(stats);
+		populateCircuitBreakerInfo(stats);
+		populateTransferInfo(stats);
+		populateRequestBudgetInfo(stats);
+		populateTopologyInfo(stats);
+		populateCapacityInfo(stats);
+		populateCapabilitiesInfo(stats);
+		populateGenerateStatistics(stats);
+		extendedStatistics.setStatistics(CompactStatisticsMap.copyOf(stats));
+		localExtendedStatistics = extendedStatistics;
+		persistSnapshot(extendedStatistics.getStatistics());
+	}
+
+	/**
+	 * Starts a full poll on a dedicated thread, so the caller is not held up by a cold poll
+	 */
+	private void startBackgroundPoll() {
+		ExecutorService executor = sharedResources.newExecutor(1);
+		try {
+			backgroundPoll = executor.submit(() -> {
+				try {
+					statisticsFlight.execute(HaivisionConstant.STATISTICS, this::collectStatistics);
+				} catch (Exception e) {
+					errorLog.error(HaivisionConstant.STATISTICS, "Error while polling after restoring the persisted snapshot", e);
+				}
+			});
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Logs in and prefetches the static endpoints on a dedicated thread, so the first poll does not pay for them.
+	 * Called last by {@link #internalInit()}; the warm-up starts once init() has marked the adapter initialized,
+	 * and is skipped if a poll already logged in.
+	 */
+	private void startWarmUp() {
+		ExecutorService executor = sharedResources.newExecutor(1);
+		try {
+			warmUp = executor.submit(() -> {
+				// init() sets the flag right after internalInit() returns, requests are refused until then
+				while (!isInitialized()) {
+					try {
+						Thread.sleep(1);
+					} catch (InterruptedException e) {
+						// init failed and the adapter was destroyed
+						return;
+					}
+				}
+				reentrantLock.lock();
+				try {
+					if (firstTimeInit || Thread.currentThread().isInterrupted()) {
+						return;
+					}
+					if (!isValidCookie()) {
+						return;
+					}
+					warmSession = true;
+					prefetch(HaivisionConstant.SYSTEM, HaivisionCommand.GET_SYSTEM_INFO);
+					prefetch(HaivisionConstant.LICENSE, HaivisionCommand.GET_LICENSE_INFO);
+					prefetch(HaivisionConstant.SERVICE, HaivisionCommand.GET_RTSP);
+					prefetch(HaivisionConstant.SERVICE, HaivisionCommand.GET_WEBSERVER);
+				} catch (Exception e) {
+					logger.warn("Warm-up of the adapter failed, the first poll collects everything", e);
+				} finally {
+					reentrantLock.unlock();
+				}
+			});
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Fetch a static endpoint of a selected section into {@link #prefetched}
+	 *
+	 * @param section section the endpoint belongs to
+	 * @param command command of the endpoint
+	 */
+	private void prefetch(String section, String command) {
+		if (!isSectionEnabled(section) || Thread.currentThread().isInterrupted()) {
+			return;
+		}
+		try {
+			JsonNode response = fetch(command);
+			if (response != null) {
+				prefetched.put(command, response);
+			}
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Unable to prefetch " + command, e);
+			}
+		}
+	}
+
+	/**
+	 * Logs out within {@link #destroyTimeout}. A logout still pending after the timeout is abandoned: destroy
+	 * goes on, and the request ends on its own at the latest with the socket timeout of the shared client.
+	 */
+	private void logoutWithTimeout() {
+		ExecutorService executor = sharedResources.newExecutor(1);
+		try {
+			Future<?> logout = executor.submit(this::deleteCookieSession);
+			logout.get(destroyTimeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			logger.warn("Logout did not complete within " + destroyTimeout + " ms, abandoning it");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error("Error while logging out", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Opens the capture of {@link #captureMode}: a rolling capture to record to, or the recorded exchanges to replay
+	 */
+	private void startCapture() {
+		captureInterceptor = null;
+		if (captureMode == CaptureMode.OFF) {
+			return;
+		}
+		if (StringUtils.isNullOrEmpty(captureDirectory)) {
+			logger.warn("Capture mode " + captureMode + " requires a capture directory, capture is off");
+			return;
+		}
+		CaptureStore store = new CaptureStore(Paths.get(captureDirectory), HaivisionConstant.CAPTURE_FILE_PREFIX + getFileSafeHost() + "-",
+				HaivisionConstant.CAPTURE_MAX_FILE_BYTES, HaivisionConstant.CAPTURE_MAX_FILES);
+		if (captureMode == CaptureMode.RECORD) {
+			captureStore = store;
+			captureInterceptor = new RecordingInterceptor(store, HaivisionCommand.API_LOGIN);
+			return;
+		}
+		try {
+			List<CapturedExchange> exchanges = store.readAll();
+			if (exchanges.isEmpty()) {
+				logger.warn("No capture to replay in " + captureDirectory + ", every request is answered with 404");
+			}
+			captureInterceptor = new ReplayInterceptor(exchanges, replaySpeed);
+		} catch (Exception e) {
+			logger.error("Unable to read the capture in " + captureDirectory + ", capture is off", e);
+		}
+	}
+
+	/**
+	 * Closes the capture being recorded
+	 */
+	private void stopCapture() {
+		captureInterceptor = null;
+		if (captureStore != null) {
+			try {
+				captureStore.close();
+			} catch (Exception e) {
+				logger.warn("Unable to close the capture in " + captureStore.getDirectory(), e);
+			}
+			captureStore = null;
+		}
+	}
+
+	/**
+	 * Host of the device usable in a file name
+	 *
+	 * @return host with the characters that are not file name safe replaced
+	 */
+	private String getFileSafeHost() {
+		return getHost().replaceAll("[^A-Za-z0-9._-]", "_");
+	}
+
+	/**
+	 * Loads the persisted snapshot into {@link #localExtendedStatistics}, {@link #genericStatistics},
+	 * {@link #lastGoodSections}, {@link #streamEntries} and {@link #cacheValue}. The restored statistics flag
+	 * every section as stale and tell when the snapshot was saved. A snapshot that cannot be read is ignored.
+	 */
+	private void restoreSnapshot() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			snapshotStore = null;
+			return;
+		}
+		// one file per device endpoint, instances monitoring the same host on different ports do not share it
+		snapshotStore = new SnapshotStore(Paths.get(snapshotDirectory, HaivisionConstant.SNAPSHOT_FILE_PREFIX
+				+ getFileSafeHost() + "-" + getPort() + HaivisionConstant.SNAPSHOT_FILE_SUFFIX));
+		snapshotWriter = sharedResources.newExecutor(1);
+		try {
+			PersistedSnapshot snapshot = snapshotStore.load();
+			if (snapshot == null) {
+				return;
+			}
+			for (Map.Entry<String, String> entry : snapshot.getCache().entrySet()) {
+				if (entry.getKey() != null && entry.getValue() != null) {
+					cacheValue.put(entry.getKey(), entry.getValue());
+				}
+			}
+			lastGoodSections.putAll(snapshot.getSections());
+			streamEntries.putAll(snapshot.getStreams());
+			genericStatistics.setCpuPercentage(snapshot.getGenericStatistics().getCpuPercentage());
+			genericStatistics.setUpTime(snapshot.getGenericStatistics().getUpTime());
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			for (Map.Entry<String, SectionSnapshot> section : snapshot.getSections().entrySet()) {
+				PropertyKeyTable keys = pollStatusKeys.get(section.getKey());
+				stats.put(keys.get(0), String.valueOf(true));
+				stats.put(keys.get(1), String.valueOf(section.getValue().getAgeSeconds()));
+			}
+			stats.put(RESTORED_SNAPSHOT_KEYS.get(0), DATE_FORMATTER.format(Instant.ofEpochMilli(snapshot.getSavedAt())));
+			stats.put(RESTORED_SNAPSHOT_KEYS.get(1), String.valueOf((System.currentTimeMillis() - snapshot.getSavedAt()) / 1000));
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			extendedStatistics.setStatistics(CompactStatisticsMap.copyOf(stats));
+			localExtendedStatistics = extendedStatistics;
+			snapshotRestored = true;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Restored snapshot saved at " + Instant.ofEpochMilli(snapshot.getSavedAt()) + " from " + snapshotStore.getFile());
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to restore the persisted snapshot from " + snapshotStore.getFile(), e);
+		}
+	}
+
+	/**
+	 * Hands the latest statistics, section values, stream blocks and cache to {@link #snapshotWriter}, if enabled.
+	 * The file is written off the poll thread; a failed write is logged and does not affect the poll.
+	 *
+	 * @param stats published statistics
+	 */
+	private void persistSnapshot(Map<String, String> stats) {
+		SnapshotStore store = snapshotStore;
+		ExecutorService writer = snapshotWriter;
+		if (store == null || writer == null) {
+			return;
+		}
+		GenericStatistics generic = new GenericStatistics();
+		generic.setCpuPercentage(genericStatistics.getCpuPercentage());
+		generic.setUpTime(genericStatistics.getUpTime());
+		PersistedSnapshot snapshot = new PersistedSnapshot(System.currentTimeMillis(), stats, new HashMap<>(lastGoodSections), new HashMap<>(cacheValue),
+				new HashMap<>(streamEntries), generic);
+		if (pendingSnapshot.getAndSet(snapshot) != null) {
+			// the writer has not picked up the previous snapshot yet, it writes this one instead
+			return;
+		}
+		try {
+			writer.execute(() -> {
+				PersistedSnapshot next = pendingSnapshot.getAndSet(null);
+				if (next == null) {
+					return;
+				}
+				try {
+					store.save(next);
+				} catch (Exception e) {
+					logger.warn("Unable to persist the snapshot to " + store.getFile(), e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pendingSnapshot.set(null);
+		}
+	}
+
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		synchronized (restTemplate) {
+			List<ClientHttpRequestInterceptor> restTemplateInterceptors = restTemplate.getInterceptors();
+
+			if (!restTemplateInterceptors.contains(haivisionInterceptor))
+				restTemplateInterceptors.add(haivisionInterceptor);
+
+			if (!restTemplateInterceptors.contains(gzipInterceptor))
+				installSharedTransport(restTemplate);
+
+			// between the session interceptor and the transport: exchanges are recorded decoded, replays skip the device
+			ClientHttpRequestInterceptor capture = captureInterceptor;
+			if (capture != null && !restTemplate.getInterceptors().contains(capture))
+				restTemplate.getInterceptors().add(restTemplate.getInterceptors().indexOf(haivisionInterceptor) + 1, capture);
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * Replaces the request factory of the template with one sending requests through the shared connection pools
+	 * and leaving response bodies encoded, and appends {@link #gzipInterceptor} after the session interceptor,
+	 * so the latter still reads decoded login responses. The timeouts of the communicator's own client are kept.
+	 * The JSON converter of the template is replaced by the shared one.
+	 * The raw factory is only reachable while the template has no interceptor.
+	 *
+	 * @param restTemplate template of the communicator
+	 * @throws Exception if the shared client cannot be created
+	 */
+	private void installSharedTransport(RestTemplate restTemplate) throws Exception {
+		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+		restTemplate.setInterceptors(Collections.emptyList());
+		ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+		if (requestFactory instanceof HttpComponentsClientHttpRequestFactory) {
+			HttpClient ownClient = ((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient();
+			SharedResources resources = sharedResources;
+			if (resources != null) {
+				RequestConfig requestConfig = ownClient instanceof Configurable ? ((Configurable) ownClient).getConfig() : null;
+				restTemplate.setRequestFactory(new GzipClientHttpRequestFactory(resources.getHttpClient(getTrustAllCertificates()), requestConfig));
+			} else {
+				restTemplate.setRequestFactory(new GzipClientHttpRequestFactory(ownClient));
+			}
+			interceptors.add(gzipInterceptor);
+		} else if (logger.isWarnEnabled()) {
+			logger.warn("Unsupported request factory, responses are not requested gzip encoded: " + requestFactory.getClass().getName());
+		}
+		restTemplate.setInterceptors(interceptors);
+		List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+		converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter ? SharedResources.jsonConverter() : converter);
+	}
+
+	/**
+	 * Populates every statistics section concurrently within {@link #pollTimeout}.
+	 * A section that fails, is cancelled or misses the deadline is filled from its last good values and flagged as stale,
+	 * so the rest of the snapshot is still published on time. A request skipped by an open circuit breaker fails its section. A section still running from a previous poll
+	 * is not started again.
+	 *
+	 * @param stats a map to store the statistics as key-value pairs
+	 * @throws Exception if no section could be populated, neither freshly nor from its last good values
+	 */
+	private void populateSections(Map<String, String> stats) throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeout);
+		pollDeadline = deadline;
+		for (Map.Entry<String, SectionPopulator> entry : sections.entrySet()) {
+			String section = entry.getKey();
+			if (!isSectionEnabled(section)) {
+				continue;
+			}
+			Future<Map<String, String>> previous = sectionFutures.get(section);
+			if (previous != null && !previous.isDone()) {
+				continue;
+			}
+			sectionFutures.put(section, pollExecutor.submit(pollTracer.wrap(() -> {
+				TraceSpan span = pollTracer.start(section);
+				try {
+					Map<String, String> sectionStats = new HashMap<>();
+					entry.getValue().populate(sectionStats);
+					lastGoodSections.put(section, new SectionSnapshot(sectionStats, System.currentTimeMillis()));
+					return sectionStats;
+				} finally {
+					pollTracer.end(span);
+				}
+			})));
+		}
+
+		Exception failure = null;
+		boolean published = false;
+		for (String section : sections.keySet()) {
+			if (!isSectionEnabled(section)) {
+				continue;
+			}
+			boolean stale = true;
+			try {
+				sectionFutures.get(section).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				stale = false;
+			} catch (TimeoutException e) {
+				logger.warn(String.format("%s section did not complete within %s ms, using last good values", section, pollTimeout));
+			} catch (CancellationException e) {
+				logger.warn(String.format("%s section was cancelled, using last good values", section));
+			} catch (ExecutionException e) {
+				failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				errorLog.error(section, String.format("Error when populating %s section, using last good values", section), e.getCause());
+			}
+			SectionSnapshot snapshot = lastGoodSections.get(section);
+			if (snapshot != null) {
+				stats.putAll(snapshot.getValues());
+				published = true;
+			}
+			PropertyKeyTable keys = pollStatusKeys.get(section);
+			stats.put(keys.get(0), String.valueOf(stale));
+			stats.put(keys.get(1), snapshot == null ? HaivisionConstant.NONE : String.valueOf(snapshot.getAgeSeconds()));
+		}
+		if (!published && failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Check whether a statistics section has at least one selected property group, so its endpoints
+	 * are called at all
+	 *
+	 * @param section name of the section
+	 * @return true if the section must be collected
+	 */
+	private boolean isSectionEnabled(String section) {
+		switch (section) {
+			case HaivisionConstant.SYSTEM:
+				return isGroupEnabled(PropertyGroup.SYSTEM);
+			case HaivisionConstant.NETWORK:
+				return (isGroupEnabled(PropertyGroup.NETWORK) || isGroupEnabled(PropertyGroup.NETWORK_INTERFACE))
+						&& isEndpointSupported(HaivisionCommand.GET_NETWORK_INFO);
+			case HaivisionConstant.LICENSE:
+				return isGroupEnabled(PropertyGroup.LICENSE) && isEndpointSupported(HaivisionCommand.GET_LICENSE_INFO);
+			case HaivisionConstant.STREAMS:
+				return isGroupEnabled(PropertyGroup.STREAMS);
+			case HaivisionConstant.SYSTEM_LOAD:
+				return isGroupEnabled(PropertyGroup.LOAD) && isLoadSupported()
+						|| isGroupEnabled(PropertyGroup.GPU) && isFieldSupported(HaivisionCommand.GET_SYSTEM_LOAD, HaivisionConstant.GPUS);
+			case HaivisionConstant.SERVICE:
+				return isGroupEnabled(PropertyGroup.SERVICE)
+						&& (isEndpointSupported(HaivisionCommand.GET_RTSP) || isEndpointSupported(HaivisionCommand.GET_WEBSERVER));
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Check whether an endpoint may be requested according to the {@link #capabilities} of the firmware
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return false only if the firmware is known not to expose the endpoint
+	 */
+	private boolean isEndpointSupported(String command) {
+		DeviceCapabilities current = capabilities;
+		return current == null || current.isSupported(command);
+	}
+
+	/**
+	 * Check whether an optional field may be reported according to the {@link #capabilities} of the firmware
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @param field name of the field in the response
+	 * @return false only if the firmware is known not to report the field
+	 */
+	private boolean isFieldSupported(String command, String field) {
+		DeviceCapabilities current = capabilities;
+		return current == null || current.hasField(command, field);
+	}
+
+	/**
+	 * Check whether the metric snapshot reports the memory, CPU and uptime of the system load group
+	 *
+	 * @return false if the firmware is known not to report one of them
+	 */
+	private boolean isLoadSupported() {
+		return isFieldSupported(HaivisionCommand.GET_SYSTEM_LOAD, HaivisionConstant.MEMORY)
+				&& isFieldSupported(HaivisionCommand.GET_SYSTEM_LOAD, HaivisionConstant.CPU)
+				&& isFieldSupported(HaivisionCommand.GET_SYSTEM_LOAD, HaivisionConstant.SYSTEM_METRIC);
+	}
+
+	/**
+	 * Check whether a property group is selected by {@link #propertyGroups}
+	 *
+	 * @param group property group
+	 * @return true if the group is collected
+	 */
+	private boolean isGroupEnabled(PropertyGroup group) {
+		return enabledGroups.contains(group);
+	}
+
+	/**
+	 * generate GenericStatistics for adaptor
+	 *
+	 * @param stats a map to store system information as key-value pairs
+	 */
+	private void populateGenerateStatistics(Map<String, String> stats) {
+		String systemCPU = SYSTEM_LOAD_KEYS.get(SystemLoad.SYS_CPU_LOAD);
+		String systemUptime = SYSTEM_LOAD_KEYS.get(SystemLoad.SYS_UP_TIME);
+		// a firmware not reporting a value publishes None, which is left out of the generic statistics
+		double cpu = parsePercentOrCount(stats.remove(systemCPU));
+		if (!Double.isNaN(cpu)) {
+			genericStatistics.setCpuPercentage((float) cpu);
+		}
+		double uptime = parsePercentOrCount(stats.remove(systemUptime));
+		if (!Double.isNaN(uptime)) {
+			genericStatistics.setUpTime((long) uptime * 1000L);
+		}
+	}
+
+	/**
+	 * Populates system information into the provided stats map by retrieving data from the system info endpoint.
+	 *
+	 * @param stats a map to store system information as key-value pairs
+	 * @throws ResourceNotReachableException if the system information cannot be retrieved
+	 */
+	private void populateSystemInfo(Map<String, String> stats) throws Exception{
+		try {
+			// retrieve data
+			JsonNode response = fetch(HaivisionCommand.GET_SYSTEM_INFO);
+			if (response != null && response.has(HaivisionConstant.RESULT) && response.get(HaivisionConstant.RESULT).asBoolean()) {
+				allSystemInfoSet.clear();
+				for (SystemsEnum item : SYSTEMS_ITEMS) {
+					if (response.has(item.getField())) {
+						cacheValue.put(item.getName(), response.get(item.getField()).asText());
+					}
+				}
+				//populate system
+				for (SystemsEnum system : SYSTEMS_ITEMS){
+					String systemName = system.getName();
+					String value = getDefaultValueForNullData(cacheValue.get(systemName));
+					if (system == SystemsEnum.CURRENTTIME) {
+						stats.put(systemName, formatMillisecondsToDate(value));
+					} else {
+						stats.put(systemName, value);
+					}
+				}
+			}
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("Error when retrieving system info", e);
+		}
+	}
+
+	/**
+	 * Populates network information into the provided stats map by retrieving data from the network info endpoint.
+	 *
+	 * @param stats a map to store network information as key-value pairs
+	 * @throws ResourceNotReachableException if the network information cannot be retrieved
+	 */
+	private void populateNetworkInfo(Map<String, String> stats) throws Exception{
+		try {
+			// Retrieve data
+			JsonNode response = fetch(HaivisionCommand.GET_NETWORK_INFO);
+			if (response != null && response.has(HaivisionConstant.NICS) && response.get(HaivisionConstant.NICS).isArray()) {
+				allNetworkSet.clear();
+
+				boolean networkEnabled = isGroupEnabled(PropertyGroup.NETWORK);
+				boolean networkInterfaceEnabled = isGroupEnabled(PropertyGroup.NETWORK_INTERFACE);
+				if (networkEnabled) {
+					for (NetworkEnum networkEnum : NETWORK_ITEMS) {
+						cacheValue.put(NETWORK_KEYS.get(networkEnum), response.get(networkEnum.getField()).asText());
+					}
 				}
 				for (JsonNode item : response.get(HaivisionConstant.NICS)) {
 					String group = item.get(HaivisionConstant.NAME).asText();
 					allNetworkSet.add(group);
-					for(NetworkInterfaceEnum networkInterfaceEnum : NetworkInterfaceEnum.values()){
-						cacheValue.put(networkInterfaceEnum.getName(), getDefaultValueForNullData(item.get(networkInterfaceEnum.getField()).asText()));
+					if (networkInterfaceEnabled) {
+						PropertyKeyTable keys = networkInterfaceKeys.get(group);
+						for (NetworkInterfaceEnum networkInterfaceEnum : NETWORK_INTERFACE_ITEMS) {
+							cacheValue.put(keys.get(networkInterfaceEnum), getDefaultValueForNullData(item.get(networkInterfaceEnum.getField()).asText()));
+						}
 					}
 				}
+				networkInterfaceKeys.retainAll(allNetworkSet);
 				// Populate network
-				for (NetworkEnum item : NetworkEnum.values()) {
-					String nameProperty = item.getName();
-					String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
-					stats.put(HaivisionConstant.NETWORK + HaivisionConstant.HASH + item.getName(), value);
+				if (networkEnabled) {
+					for (NetworkEnum item : NETWORK_ITEMS) {
+						String key = NETWORK_KEYS.get(item);
+						stats.put(key, getDefaultValueForNullData(cacheValue.get(key)));
+					}
 				}
 
 				// Populate network interface
-				for (String name : allNetworkSet) {
-					for (NetworkInterfaceEnum itemInterface : NetworkInterfaceEnum.values()) {
-						String nameProperty = itemInterface.getName();
-						String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
-						stats.put("NetworkInterface_" + uppercaseFirstCharacter(name) + HaivisionConstant.HASH + itemInterface.getName(), value);
+				if (networkInterfaceEnabled) {
+					for (String name : allNetworkSet) {
+						PropertyKeyTable keys = networkInterfaceKeys.get(name);
+						for (NetworkInterfaceEnum itemInterface : NETWORK_INTERFACE_ITEMS) {
+							String key = keys.get(itemInterface);
+							stats.put(key, getDefaultValueForNullData(cacheValue.get(key)));
+						}
 					}
 				}
 				// Populate interface of webserver
-				stats.put(HaivisionConstant.SERVICE + HaivisionConstant.HASH + HaivisionConstant.WEBSERVER_INTERFACE, String.join(", ", allNetworkSet));
+				if (isGroupEnabled(PropertyGroup.SERVICE)) {
+					stats.put(SERVICE_KEYS.get(SERVICE_WEBSERVER_INTERFACE), String.join(", ", allNetworkSet));
+				}
 			}
 		} catch (Exception e) {
 			throw new ResourceNotReachableException("Error when retrieving network info", e);
 		}
 	}
 
-
+
+	/**
+	 * Populates system GPUs information into the provided stats map by retrieving data from the system GPUs info endpoint.
+	 *
+	 * @param stats a map to store system GPUs information as key-value pairs
+	 * @throws ResourceNotReachableException if the system GPUs information cannot be retrieved
+	 */
+	private void populateSystemLoadInfo(Map<String, String> stats) throws Exception{
+		try {
+			// retrieve data license
+			JsonNode response = fetch(HaivisionCommand.GET_SYSTEM_LOAD);
+			if (response == null) {
+				return;
+			}
+			if (isGroupEnabled(PropertyGroup.GPU) && response.has(HaivisionConstant.GPUS) && response.get(HaivisionConstant.GPUS).isArray()) {
+				populateGPUInfo(stats, response.get(HaivisionConstant.GPUS));
+			}
+			if (isGroupEnabled(PropertyGroup.LOAD) && response.has(HaivisionConstant.MEMORY) && response.has(HaivisionConstant.CPU)
+					&& response.has(HaivisionConstant.SYSTEM_METRIC)) {
+				JsonNode memoryLoad = response.get(HaivisionConstant.MEMORY);
+				JsonNode cpuLoad = response.get(HaivisionConstant.CPU);
+				JsonNode uptime = response.get(HaivisionConstant.SYSTEM_METRIC);
+				for (SystemLoad systemLoad: SYSTEM_LOAD_ITEMS){
+					if(systemLoad.equals(SystemLoad.SYS_MEM_LOAD)){
+						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(memoryLoad.path(systemLoad.getField()).asText()));
+					} else if(systemLoad.equals(SystemLoad.SYS_CPU_LOAD)) {
+						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(cpuLoad.path(systemLoad.getField()).asText()));
+					} else {
+						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(uptime.path(systemLoad.getField()).asText()));
+					}
+				}
+					// populate system load
+					for (SystemLoad itemLoad : SYSTEM_LOAD_ITEMS) {
+						String nameProperty = itemLoad.getName();
+						String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
+						stats.put(SYSTEM_LOAD_KEYS.get(itemLoad), value);
+					}
+			}
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("Error when retrieving system GPUs info", e);
+		}
+	}
+
+	/**
+	 * Populates the GPUs of the metric snapshot into the provided stats map, one group per GPU
+	 *
+	 * @param stats a map to store system GPUs information as key-value pairs
+	 * @param gpus GPU entries of the metric snapshot
+	 */
+	private void populateGPUInfo(Map<String, String> stats, JsonNode gpus) {
+		allSystemGPUSet.clear();
+		int index = 0;
+		for (JsonNode gpu : gpus) {
+			String group = String.valueOf(index++);
+			allSystemGPUSet.add(group);
+			PropertyKeyTable keys = gpuKeys.get(group);
+			for (SystemGPU systemGPU : SYSTEM_GPU_ITEMS) {
+				stats.put(keys.get(systemGPU), getDefaultValueForNullData(gpu.path(systemGPU.getField()).asText()));
+			}
+		}
+		gpuKeys.retainAll(allSystemGPUSet);
+	}
+
+	/**
+	 * Populates service information into the provided stats map by retrieving data from the service info endpoint.
+	 *
+	 * @param stats a map to store service information as key-value pairs
+	 * @throws ResourceNotReachableException if the service information cannot be retrieved
+	 */
+	private void populateServiceInfo(Map<String, String> stats) throws Exception{
+		try{
+			// retrieve data RTSP
+			// an endpoint the firmware does not expose publishes None, the section still fails if a request is skipped
+			JsonNode responseRTSP = isEndpointSupported(HaivisionCommand.GET_RTSP) ? fetch(HaivisionCommand.GET_RTSP) : null;
+			JsonNode responseWebserver = isEndpointSupported(HaivisionCommand.GET_WEBSERVER) ? fetch(HaivisionCommand.GET_WEBSERVER) : null;
+
+			if(responseRTSP != null && responseRTSP.has("rtsp_port")){
+				cacheValue.put(HaivisionConstant.RTSP_SERVER_PORT, responseRTSP.get("rtsp_port").asText());
+			}
+
+			// populate rtsp
+			String valueRTSP = getDefaultValueForNullData(cacheValue.get(HaivisionConstant.RTSP_SERVER_PORT));
+			stats.put(SERVICE_KEYS.get(SERVICE_RTSP_SERVER_PORT), valueRTSP);
+
+			// retrieve web server
+			if(responseWebserver != null && responseWebserver.has(HaivisionConstant.DATA)){
+				JsonNode dataWebServer = responseWebserver.get(HaivisionConstant.DATA).get("listeners");
+				if(responseWebserver.has("interfaces")){
+					cacheValue.put(HaivisionConstant.WEBSERVER_INTERFACE, dataWebServer.get("interfaces").asText());
+				}
+			}
+
+		} catch (Exception e){
+			throw new ResourceNotReachableException("Error when retrieving service info", e);
+		}
+	}
+
+
+	/**
+	 * Populates license information into the provided stats map by retrieving data from the license info endpoint.
+	 *
+	 * @param stats a map to store license information as key-value pairs
+	 * @throws ResourceNotReachableException if the license information cannot be retrieved
+	 */
+	private void populateLicenseInfo(Map<String, String> stats) throws Exception{
+		try {
+			// retrieve data license
+			JsonNode response = fetch(HaivisionCommand.GET_LICENSE_INFO);
+			if (response != null) {
+				for (LicenseEnum licenseEnum : LICENSE_ITEMS) {
+					if (response.has(licenseEnum.getField())) {
+						cacheValue.put(licenseEnum.getName(), response.get(licenseEnum.getField()).asText());
+					}
+				}
+				// populate data license
+				for (LicenseEnum item : LICENSE_ITEMS) {
+					String name = item.getName();
+					String value = getDefaultValueForNullData(cacheValue.get(name));
+					if (item == LicenseEnum.CREATION_DATE || item == LicenseEnum.EXPIRATION) {
+						stats.put(LICENSE_KEYS.get(item), formatMillisecondsToDate(value));
+					} else {
+						stats.put(LICENSE_KEYS.get(item), value);
+					}
+				}
+			}
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("Error when retrieving license info", e);
+		}
+	}
+
+	/**
+	 * Populates stream information into the provided stats map by retrieving data from the stream info endpoint.
+	 * Adding field if absent by using addArrayFieldIfAbsent method
+	 *
+	 * @param stats a map to store stream information as key-value pairs
+	 * @throws ResourceNotReachableException if the stream information cannot be retrieved
+	 */
+	private void populateStreamsInfo(Map<String, String> stats) throws Exception{
+		try {
+			// retrieve data stream
+			JsonNode response = fetch(HaivisionCommand.GET_ALL_STREAMS);
+			if (response != null && response.has(HaivisionConstant.STREAM_LIST) && response.get(HaivisionConstant.STREAM_LIST).isArray()) {
+				trackTopology(response.get(HaivisionConstant.STREAM_LIST));
+				// filtered-out streams never reach the cache nor the enrichment lookups
+				Map<String, JsonNode> streams = getAcceptedStreams(response.get(HaivisionConstant.STREAM_LIST), streamFilter);
+				Map<String, String> groups = assignStreamGroups(streams);
+				allStreamNameSet.clear();
+				allStreamNameSet.addAll(groups.values());
+
+				// unchanged streams publish their previous block, the others are resolved concurrently
+				Map<String, Future<StreamEntry>> futures = new LinkedHashMap<>();
+				StreamsSummary summary = new StreamsSummary();
+				for (Map.Entry<String, JsonNode> stream : streams.entrySet()) {
+					String uuid = stream.getKey();
+					JsonNode item = stream.getValue();
+					String group = groups.get(uuid);
+					summary.add(getDefaultValueForNullData(item.path(StreamInfoEnum.STATUS.getField()).asText()),
+							getStreamModeName(getDefaultValueForNullData(item.path(StreamInfoEnum.MODE.getField()).asText())),
+							item.path(StreamInfoEnum.OUTPUTS.getField()).size());
+					long hash = contentHash(item);
+					StreamEntry previous = streamEntries.get(uuid);
+					if (previous != null && previous.isReusableFor(hash, group)) {
+						stats.putAll(previous.getProperties());
+					} else {
+						futures.put(uuid, lookupExecutor.submit(pollTracer.wrap(() -> resolveStream(item, group, hash))));
+					}
+				}
+				// the lookups share the pool of this section: a lookup not started yet runs here rather than being
+				// waited for, and no lookup is waited for past the deadline of the poll
+				long deadline = getRequestDeadline();
+				try {
+					for (Map.Entry<String, Future<StreamEntry>> future : futures.entrySet()) {
+						if (future.getValue() instanceof RunnableFuture) {
+							((RunnableFuture<StreamEntry>) future.getValue()).run();
+						}
+						StreamEntry entry = future.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+						stats.putAll(entry.getProperties());
+						streamEntries.put(future.getKey(), entry);
+					}
+				} finally {
+					futures.values().forEach(future -> future.cancel(true));
+				}
+				populateStreamsSummary(stats, summary);
+				streamEntries.keySet().retainAll(streams.keySet());
+				for (String group : streamKeys.entities()) {
+					if (!allStreamNameSet.contains(group)) {
+						PropertyKeyTable keys = streamKeys.get(group);
+						for (StreamInfoEnum streamInfoEnum : STREAM_INFO_ITEMS) {
+							cacheValue.remove(keys.get(streamInfoEnum));
+						}
+					}
+				}
+				streamKeys.retainAll(allStreamNameSet);
+			}
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("Error when retrieving stream info", e);
+		}
+	}
+
+	/**
+	 * Populates the stream counters accumulated while traversing the stream list
+	 *
+	 * @param stats a map to store stream information as key-value pairs
+	 * @param summary counters of the monitored streams
+	 */
+	private void populateStreamsSummary(Map<String, String> stats, StreamsSummary summary) {
+		stats.put(STREAMS_SUMMARY_KEYS.get(0), String.valueOf(summary.getTotal()));
+		stats.put(STREAMS_SUMMARY_KEYS.get(1), String.valueOf(summary.getWithOutputs()));
+		stats.put(STREAMS_SUMMARY_KEYS.get(2), String.valueOf(summary.getWithoutOutputs()));
+		stats.put(STREAMS_SUMMARY_KEYS.get(3), String.valueOf(summary.getOutputs()));
+		// counters of a status or mode no stream has any more drop to 0 instead of disappearing
+		for (String status : streamStatusKeys.entities()) {
+			stats.put(streamStatusKeys.get(status).get(0), "0");
+		}
+		for (String mode : streamModeKeys.entities()) {
+			stats.put(streamModeKeys.get(mode).get(0), "0");
+		}
+		for (Map.Entry<String, Integer> status : summary.getByStatus().entrySet()) {
+			stats.put(streamStatusKeys.get(status.getKey()).get(0), String.valueOf(status.getValue()));
+		}
+		for (Map.Entry<String, Integer> mode : summary.getByMode().entrySet()) {
+			stats.put(streamModeKeys.get(mode.getKey()).get(0), String.valueOf(mode.getValue()));
+		}
+	}
+
+	/**
+	 * Retrieves the display name of a stream mode
+	 *
+	 * @param mode mode of the stream_list entry
+	 * @return "Bypass" for the I/O router mode, the capitalized mode otherwise
+	 */
+	private String getStreamModeName(String mode) {
+		return mode.equalsIgnoreCase("iorouter") ? "Bypass" : uppercaseFirstCharacter(mode);
+	}
+
+	/**
+	 * Collects the stream_list entries accepted by the stream filter, keyed by UUID in device order.
+	 * An entry without UUID is keyed by its name.
+	 *
+	 * @param streamList stream list from the streams endpoint
+	 * @param filter stream filter
+	 * @return accepted entries keyed by UUID
+	 */
+	private Map<String, JsonNode> getAcceptedStreams(JsonNode streamList, StreamFilter filter) {
+		Map<String, JsonNode> streams = new LinkedHashMap<>();
+		for (JsonNode item : streamList) {
+			if (isStreamAccepted(filter, item)) {
+				JsonNode uuid = item.get(HaivisionConstant.UUID);
+				streams.put(uuid != null ? uuid.asText() : item.path(HaivisionConstant.NAME).asText(), item);
+			}
+		}
+		return streams;
+	}
+
+	/**
+	 * Assigns the property group of each stream: its name, followed by the beginning of its UUID when
+	 * several streams share that name, so they no longer overwrite each other
+	 *
+	 * @param streams stream_list entries keyed by UUID
+	 * @return property group of each stream, without the stream prefix, keyed by UUID
+	 */
+	private Map<String, String> assignStreamGroups(Map<String, JsonNode> streams) {
+		Map<String, Integer> nameCounts = new HashMap<>();
+		for (JsonNode item : streams.values()) {
+			nameCounts.merge(item.path(HaivisionConstant.NAME).asText(), 1, Integer::sum);
+		}
+		Map<String, String> groups = new LinkedHashMap<>();
+		for (Map.Entry<String, JsonNode> stream : streams.entrySet()) {
+			String name = stream.getValue().path(HaivisionConstant.NAME).asText();
+			String uuid = stream.getKey();
+			groups.put(uuid, nameCounts.get(name) > 1
+					? name + " [" + uuid.substring(0, Math.min(HaivisionConstant.STREAM_UUID_SUFFIX_LENGTH, uuid.length())) + "]"
+					: name);
+		}
+		return groups;
+	}
+
+	/**
+	 * Computes a 64-bit FNV-1a hash of a stream_list entry
+	 *
+	 * @param item stream entry from the streams endpoint
+	 * @return content hash of the entry
+	 */
+	private static long contentHash(JsonNode item) {
+		String content = item.toString();
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < content.length(); i++) {
+			hash ^= content.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Caches a stream_list entry and builds the property block of the stream
+	 *
+	 * @param item stream entry from the streams endpoint
+	 * @param group property group of the stream, without the stream prefix
+	 * @param hash content hash of the entry
+	 * @return property block of the stream
+	 */
+	private StreamEntry resolveStream(JsonNode item, String group, long hash) {
+		TraceSpan span = pollTracer.start(HaivisionConstant.STREAM + group);
+		try {
+			cacheStreamItem(item, group);
+			Map<String, String> streamStats = new HashMap<>();
+			boolean complete = populateStreamProperties(streamStats, group);
+			return new StreamEntry(hash, group, streamStats, complete);
+		} finally {
+			pollTracer.end(span);
+		}
+	}
+
+	/**
+	 * Feeds the UUID keyed stream list to {@link #topologyTracker}. Every stream is tracked, filtered or not,
+	 * so that changing the filters does not show up as streams being created or deleted.
+	 *
+	 * @param streamList stream list from the streams endpoint
+	 */
+	private void trackTopology(JsonNode streamList) {
+		Map<String, StreamTopologyTracker.StreamState> streams = new HashMap<>();
+		for (JsonNode item : streamList) {
+			JsonNode uuid = item.get(HaivisionConstant.UUID);
+			if (uuid == null) {
+				continue;
+			}
+			String wiring = item.path(StreamInfoEnum.INPUT_STREAMS.getField()).toString()
+					+ item.path(StreamInfoEnum.PASSTHRU.getField())
+					+ item.path(StreamInfoEnum.TRANSCODER.getField())
+					+ item.path(StreamInfoEnum.OUTPUTS.getField());
+			streams.put(uuid.asText(), new StreamTopologyTracker.StreamState(item.path(HaivisionConstant.NAME).asText(), wiring));
+		}
+		topologyTracker.update(streams);
+	}
+
+	/**
+	 * Populates the topology event counts and the most recent events into the provided stats map
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populateTopologyInfo(Map<String, String> stats) {
+		if (!isGroupEnabled(PropertyGroup.STREAMS)) {
+			return;
+		}
+		for (TopologyEventType type : TOPOLOGY_EVENT_TYPES) {
+			stats.put(TOPOLOGY_KEYS.get(type), String.valueOf(topologyTracker.getCount(type)));
+		}
+		List<TopologyEvent> events = topologyTracker.recent(HaivisionConstant.TOPOLOGY_RECENT_EVENTS);
+		StringBuilder recent = new StringBuilder();
+		for (TopologyEvent event : events) {
+			if (recent.length() > 0) {
+				recent.append("; ");
+			}
+			recent.append(event);
+		}
+		stats.put(TOPOLOGY_RECENT_KEY, events.isEmpty() ? HaivisionConstant.NONE : recent.toString());
+	}
+
 	/**
-	 * Populates system GPUs information into the provided stats map by retrieving data from the system GPUs info endpoint.
+	 * Populates the capacity headroom derived from the merged sections: the license limit against the live
+	 * transcoder sessions, the GPU memory in use of the metric snapshot and the projected saturation.
+	 * Bypass (I/O router) sessions only forward streams and take no encoder license, they are not counted.
+	 * Live sessions fall back to the transcoder stream count when the license does not report them.
 	 *
-	 * @param stats a map to store system GPUs information as key-value pairs
-	 * @throws ResourceNotReachableException if the system GPUs information cannot be retrieved
+	 * @param stats a map holding the populated sections, to store capacity information as key-value pairs
 	 */
-	private void populateSystemLoadInfo(Map<String, String> stats) throws Exception{
-		try {
-			// retrieve data license
-			JsonNode response = this.doGet(HaivisionCommand.GET_SYSTEM_LOAD, JsonNode.class);
-			if (response != null && response.has(HaivisionConstant.MEMORY)) {
-				allSystemGPUSet.clear();
-				JsonNode memoryLoad = response.get(HaivisionConstant.MEMORY);
-				JsonNode cpuLoad = response.get(HaivisionConstant.CPU);
-				JsonNode uptime = response.get("system");
-				for (SystemLoad systemLoad: SystemLoad.values()){
-					if(systemLoad.equals(SystemLoad.SYS_MEM_LOAD)){
-						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(memoryLoad.get(systemLoad.getField()).asText()));
-					} else if(systemLoad.equals(SystemLoad.SYS_CPU_LOAD)) {
-						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(cpuLoad.get(systemLoad.getField()).asText()));
-					} else {
-						cacheValue.put(systemLoad.getName(), getDefaultValueForNullData(uptime.get(systemLoad.getField()).asText()));
-					}
-				}
-					// populate system load
-					for (SystemLoad itemLoad : SystemLoad.values()) {
-						String nameProperty = itemLoad.getName();
-						String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
-						stats.put(HaivisionConstant.SYSTEM + HaivisionConstant.HASH + itemLoad.getName(), value);
-					}
+	private void populateCapacityInfo(Map<String, String> stats) {
+		if (!isGroupEnabled(PropertyGroup.LICENSE)) {
+			return;
+		}
+		double maxEncoders = parsePercentOrCount(stats.get(LICENSE_KEYS.get(LicenseEnum.MAX_ENCODERS)));
+		double transcoders = parsePercentOrCount(stats.get(LICENSE_KEYS.get(LicenseEnum.ACTIVE_TRANSCODER_SESSIONS)));
+		if (Double.isNaN(transcoders)) {
+			transcoders = parsePercentOrCount(stats.get(STREAMS_TRANSCODER_KEY));
+		}
+		double used = Double.isNaN(transcoders) ? 0 : transcoders;
+		double utilization = Double.NaN;
+		if (maxEncoders > 0) {
+			utilization = Math.min(100, used * 100 / maxEncoders);
+			stats.put(CAPACITY_KEYS.get(CAPACITY_REMAINING), String.valueOf((long) Math.max(0, maxEncoders - used)));
+			stats.put(CAPACITY_KEYS.get(CAPACITY_UTILIZATION), String.valueOf(Math.round(utilization)));
+		} else {
+			stats.put(CAPACITY_KEYS.get(CAPACITY_REMAINING), HaivisionConstant.NONE);
+			stats.put(CAPACITY_KEYS.get(CAPACITY_UTILIZATION), HaivisionConstant.NONE);
+		}
+		stats.put(CAPACITY_KEYS.get(CAPACITY_USED), String.valueOf((long) used));
+
+		// the device reports no GPU utilisation, the fullest GPU memory bounds the transcoding capacity
+		double gpuMemory = Double.NaN;
+		for (String gpu : gpuKeys.entities()) {
+			double memory = parsePercentOrCount(stats.get(gpuKeys.get(gpu).get(SystemGPU.SYS_GPU_MEM_USED)));
+			if (!Double.isNaN(memory) && (Double.isNaN(gpuMemory) || memory > gpuMemory)) {
+				gpuMemory = memory;
 			}
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when retrieving system GPUs info", e);
 		}
+		stats.put(CAPACITY_KEYS.get(CAPACITY_GPU_MEMORY), Double.isNaN(gpuMemory) ? HaivisionConstant.NONE : String.valueOf(Math.round(gpuMemory)));
+
+		double load = Double.isNaN(utilization) ? gpuMemory : Double.isNaN(gpuMemory) ? utilization : Math.max(utilization, gpuMemory);
+		if (Double.isNaN(load)) {
+			stats.put(CAPACITY_KEYS.get(CAPACITY_HEADROOM), HaivisionConstant.NONE);
+			stats.put(CAPACITY_KEYS.get(CAPACITY_SATURATION), HaivisionConstant.NONE);
+			return;
+		}
+		capacityTrend.add(System.currentTimeMillis(), load);
+		long secondsToSaturation = capacityTrend.getSecondsToSaturation();
+		stats.put(CAPACITY_KEYS.get(CAPACITY_HEADROOM), String.valueOf(Math.round(Math.max(0, 100 - load))));
+		stats.put(CAPACITY_KEYS.get(CAPACITY_SATURATION), secondsToSaturation < 0 ? HaivisionConstant.NONE : String.valueOf(secondsToSaturation));
 	}
 
 	/**
-	 * Populates service information into the provided stats map by retrieving data from the service info endpoint.
+	 * Parse a published count or percentage
 	 *
-	 * @param stats a map to store service information as key-value pairs
-	 * @throws ResourceNotReachableException if the service information cannot be retrieved
+	 * @param value published value, possibly {@link HaivisionConstant#NONE} or absent
+	 * @return parsed value, NaN if the value is not a number
 	 */
-	private void populateServiceInfo(Map<String, String> stats) throws Exception{
-		try{
-			// retrieve data RTSP
-			JsonNode responseRTSP = this.doGet(HaivisionCommand.GET_RTSP, JsonNode.class);
-			JsonNode responseWebserver = this.doGet(HaivisionCommand.GET_WEBSERVER, JsonNode.class);
-
-			if(responseRTSP != null && responseRTSP.has("rtsp_port")){
-				cacheValue.put(HaivisionConstant.RTSP_SERVER_PORT, responseRTSP.get("rtsp_port").asText());
-			}
-
-			// populate rtsp
-			String valueRTSP = getDefaultValueForNullData(cacheValue.get(HaivisionConstant.RTSP_SERVER_PORT));
-			stats.put(HaivisionConstant.SERVICE + HaivisionConstant.HASH + HaivisionConstant.RTSP_SERVER_PORT, valueRTSP);
-
-			// retrieve web server
-			if(responseWebserver.has(HaivisionConstant.DATA)){
-				JsonNode dataWebServer = responseWebserver.get(HaivisionConstant.DATA).get("listeners");
-				if(responseWebserver.has("interfaces")){
-					cacheValue.put(HaivisionConstant.WEBSERVER_INTERFACE, dataWebServer.get("interfaces").asText());
-				}
-			}
-
-		} catch (Exception e){
-			throw new ResourceNotReachableException("Error when retrieving service info", e);
+	private double parsePercentOrCount(String value) {
+		if (value == null || value.equals(HaivisionConstant.NONE)) {
+			return Double.NaN;
+		}
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			return Double.NaN;
 		}
 	}
 
+	/**
+	 * Check a stream_list entry against the configured stream filter
+	 *
+	 * @param filter stream filter
+	 * @param item stream entry from the streams endpoint
+	 * @return true if the stream is monitored
+	 */
+	private boolean isStreamAccepted(StreamFilter filter, JsonNode item) {
+		if (filter.isAcceptAll()) {
+			return true;
+		}
+		JsonNode uuid = item.get(HaivisionConstant.UUID);
+		JsonNode mode = item.get(StreamInfoEnum.MODE.getField());
+		return filter.accept(item.path(HaivisionConstant.NAME).asText(), uuid == null ? null : uuid.asText(), mode == null ? null : mode.asText());
+	}
 
 	/**
-	 * Populates license information into the provided stats map by retrieving data from the license info endpoint.
+	 * Stores the fields of a single stream_list entry into {@link #cacheValue}
 	 *
-	 * @param stats a map to store license information as key-value pairs
-	 * @throws ResourceNotReachableException if the license information cannot be retrieved
+	 * @param item stream entry from the streams endpoint
+	 * @param group property group of the stream, without the stream prefix
 	 */
-	private void populateLicenseInfo(Map<String, String> stats) throws Exception{
-		try {
-			// retrieve data license
-			JsonNode response = this.doGet(HaivisionCommand.GET_LICENSE_INFO, JsonNode.class);
-			if (response != null) {
-				for (LicenseEnum licenseEnum : LicenseEnum.values()) {
-					if (response.has(licenseEnum.getField())) {
-						cacheValue.put(licenseEnum.getName(), response.get(licenseEnum.getField()).asText());
-					}
-				}
-				// populate data license
-				for (LicenseEnum item : LicenseEnum.values()) {
-					String name = item.getName();
-					String value = getDefaultValueForNullData(cacheValue.get(name));
-					if (item == LicenseEnum.CREATION_DATE || item == LicenseEnum.EXPIRATION) {
-						stats.put("License" + HaivisionConstant.HASH + name, formatMillisecondsToDate(value));
-					} else {
-						stats.put("License" + HaivisionConstant.HASH + name, value);
-					}
+	private void cacheStreamItem(JsonNode item, String group) {
+		addArrayFieldIfAbsent((ObjectNode) item, HaivisionConstant.METADATAS);
+
+		PropertyKeyTable keys = streamKeys.get(group);
+		for (StreamInfoEnum streamInfoEnum : STREAM_INFO_ITEMS) {
+			if (item.has(streamInfoEnum.getField())) {
+				switch (streamInfoEnum) {
+					case METADATA:
+					case OUTPUTS:
+						cacheValue.put(keys.get(streamInfoEnum), getDefaultValueForNullData(item.get(streamInfoEnum.getField()).toString()));
+						break;
+					default:
+						cacheValue.put(keys.get(streamInfoEnum), getDefaultValueForNullData(item.get(streamInfoEnum.getField()).asText()));
 				}
 			}
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when retrieving license info", e);
 		}
 	}
 
 	/**
-	 * Populates stream information into the provided stats map by retrieving data from the stream info endpoint.
-	 * Adding field if absent by using addArrayFieldIfAbsent method
+	 * Populates the properties of a single stream from {@link #cacheValue}, resolving the input, output,
+	 * transcoder and metadata names through their endpoints
 	 *
 	 * @param stats a map to store stream information as key-value pairs
-	 * @throws ResourceNotReachableException if the stream information cannot be retrieved
+	 * @param group property group of the stream, without the stream prefix
+	 * @return true if every lookup succeeded
 	 */
-	private void populateStreamsInfo(Map<String, String> stats) throws Exception{
-		try {
-			// retrieve data stream
-			JsonNode response = this.doGet(HaivisionCommand.GET_ALL_STREAMS, JsonNode.class);
-			if (response != null && response.has(HaivisionConstant.STREAM_LIST) && response.get(HaivisionConstant.STREAM_LIST).isArray()) {
-				allStreamNameSet.clear();
-				for (JsonNode item : response.get(HaivisionConstant.STREAM_LIST)) {
-
-					addArrayFieldIfAbsent((ObjectNode) item, HaivisionConstant.METADATAS);
-
-					String group = item.get(HaivisionConstant.NAME).asText();
-					allStreamNameSet.add(group);
-					for (StreamInfoEnum streamInfoEnum : StreamInfoEnum.values()) {
-						if(item.has(streamInfoEnum.getField())){
-							switch (streamInfoEnum){
-								case METADATA:
-								case OUTPUTS:
-									cacheValue.put(group + HaivisionConstant.HASH + streamInfoEnum.getName(), getDefaultValueForNullData(item.get(streamInfoEnum.getField()).toString()));
-									break;
-								default:
-									cacheValue.put(group + HaivisionConstant.HASH + streamInfoEnum.getName(), getDefaultValueForNullData(item.get(streamInfoEnum.getField()).asText()));
-							}
-						}
-					}
-				}
-			// populate data stream
-				for (String name : allStreamNameSet) {
-					for (StreamInfoEnum item : StreamInfoEnum.values()) {
-						String nameProperty = name + HaivisionConstant.HASH + item.getName();
-						String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
-						switch (item) {
-							case METADATA:
-								populateMetadata(stats, value, name);
-								break;
-							case INPUT_STREAMS:
-								populateInput(stats, value, name);
-								break;
-							case OUTPUTS:
-								populateOutput(stats, value, name);
-								break;
-							case PASSTHRU:
-								populatePassthru(stats, value, name);
-								break;
-							case TRANSCODER:
-								populateTranscoder(stats, value, name);
-								break;
-							case MODE:
-								value = value.equalsIgnoreCase("iorouter") ? "Bypass" : uppercaseFirstCharacter(value);
-								stats.put(HaivisionConstant.STREAM + nameProperty, value);
-								break;
-							default:
-								stats.put(HaivisionConstant.STREAM + nameProperty, value);
-								break;
-						}
+	private boolean populateStreamProperties(Map<String, String> stats, String group) {
+		PropertyKeyTable keys = streamKeys.get(group);
+		boolean complete = true;
+		for (StreamInfoEnum item : STREAM_INFO_ITEMS) {
+			String key = keys.get(item);
+			String value = getDefaultValueForNullData(cacheValue.get(key));
+			switch (item) {
+				case METADATA:
+					if (isGroupEnabled(PropertyGroup.METADATA)) {
+						complete &= traceLookup(StreamInfoEnum.METADATA.getName(), () -> populateMetadata(stats, value, key));
 					}
-				}
+					break;
+				case INPUT_STREAMS:
+					complete &= traceLookup(StreamInfoEnum.INPUT_STREAMS.getName(), () -> populateInput(stats, value, key));
+					break;
+				case OUTPUTS:
+					complete &= traceLookup(StreamInfoEnum.OUTPUTS.getName(), () -> populateOutput(stats, value, key));
+					break;
+				case PASSTHRU:
+					complete &= traceLookup(StreamInfoEnum.PASSTHRU.getName(), () -> populatePassthru(stats, value, key));
+					break;
+				case TRANSCODER:
+					complete &= traceLookup(StreamInfoEnum.TRANSCODER.getName(), () -> populateTranscoder(stats, value, key));
+					break;
+				case MODE:
+					stats.put(key, getStreamModeName(value));
+					break;
+				default:
+					stats.put(key, value);
+					break;
 			}
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when retrieving stream info", e);
 		}
+		return complete;
 	}
 
 	// Helper method to check and add array field if absent
@@ -631,26 +2401,51 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 		}
 	}
 
+	/**
+	 * Runs a per stream lookup within a span of the poll trace
+	 *
+	 * @param name name of the span
+	 * @param lookup lookup to run
+	 * @return result of the lookup
+	 */
+	private boolean traceLookup(String name, BooleanSupplier lookup) {
+		TraceSpan span = pollTracer.start(name);
+		try {
+			return lookup.getAsBoolean();
+		} finally {
+			pollTracer.end(span);
+		}
+	}
+
 	/**
 	 * Populates metadata information into the provided stats map by retrieving data from the metadata info endpoint.
 	 *
 	 * @param stats a map to store metadata information as key-value pairs
+	 * @param key property key of the stream metadata
+	 * @return false if the lookup failed or was skipped
 	 * @throws ResourceNotReachableException if the metadata information cannot be retrieved
 	 */
-	private void populateMetadata(Map<String, String> stats, String jsonString, String name) {
+	private boolean populateMetadata(Map<String, String> stats, String jsonString, String key) {
 		if (jsonString.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			return;
+			return true;
+		}
+		if (!isEndpointSupported(HaivisionCommand.GET_METADATA)) {
+			stats.put(key, HaivisionConstant.NONE);
+			return true;
 		}
 		try {
-			JsonNode node = objectMapper.readTree(jsonString);
+			JsonNode node = SharedResources.jsonReader().readTree(jsonString);
 			if (!node.isArray()) {
-				return;
+				return true;
+			}
+			JsonNode responseMetadata = fetch(HaivisionCommand.GET_METADATA);
+			if (responseMetadata == null) {
+				return false;
 			}
-			JsonNode responseMetadata = this.doGet(HaivisionCommand.GET_METADATA, JsonNode.class);
-			if (responseMetadata != null && responseMetadata.has(HaivisionConstant.METADATA_LIST) && responseMetadata.get(HaivisionConstant.METADATA_LIST).isArray()) {
+			if (responseMetadata.has(HaivisionConstant.METADATA_LIST) && responseMetadata.get(HaivisionConstant.METADATA_LIST).isArray()) {
 				// Loop through the metadata UUIDs from the original object
 				if(node.isEmpty()){
-					stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + "Metadata", HaivisionConstant.NONE);
+					stats.put(key, HaivisionConstant.NONE);
 				}
 				for (JsonNode metadataUuidNode : node) {
 					String metadataUuid = metadataUuidNode.asText();
@@ -658,13 +2453,18 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 						String metadataID = metadataItem.get(HaivisionConstant.UUID).asText();
 						if (metadataUuid.equals(metadataID)) {
 							String metadataName = metadataItem.get(HaivisionConstant.NAME).asText();
-							stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + "Metadata", metadataName);
+							stats.put(key, metadataName);
 						}
 					}
 				}
 			}
+			return true;
+		} catch (RequestSkippedException e) {
+			// the entry stays incomplete and is resolved again by the next poll
+			return false;
 		} catch (Exception e) {
-			logger.error("Error while populating the metadata info", e);
+			errorLog.error(HaivisionCommand.GET_METADATA, "Error while populating the metadata info", e);
+			return false;
 		}
 	}
 
@@ -673,19 +2473,29 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * Populates input information into the provided stats map by retrieving data from the input info endpoint.
 	 *
 	 * @param stats a map to store input information as key-value pairs
+	 * @param key property key of the stream input
+	 * @return false if the lookup failed or was skipped
 	 * @throws ResourceNotReachableException if the input information cannot be retrieved
 	 */
-	private void populateInput(Map<String, String> stats, String inputID, String name) {
+	private boolean populateInput(Map<String, String> stats, String inputID, String key) {
 		if (inputID.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.INPUT, HaivisionConstant.NONE);
-			return;
+			stats.put(key, HaivisionConstant.NONE);
+			return true;
 		}
 		try{
-			JsonNode responseInput = this.doGet(String.format(HaivisionCommand.GET_INPUT_BY_ID, inputID), JsonNode.class);
+			JsonNode responseInput = fetch(HaivisionCommand.GET_INPUT_BY_ID, inputID);
+			if (responseInput == null) {
+				return false;
+			}
 			String inputName = responseInput.get(HaivisionConstant.NAME).asText();
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.INPUT, inputName);
+			stats.put(key, inputName);
+			return true;
+		} catch (RequestSkippedException e) {
+			// the entry stays incomplete and is resolved again by the next poll
+			return false;
 		} catch (Exception e) {
-			logger.error("Error while populating the input info", e);
+			errorLog.error(HaivisionCommand.GET_INPUT_BY_ID, "Error while populating the input info", e);
+			return false;
 		}
 	}
 
@@ -693,19 +2503,29 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * Populates passthru information into the provided stats map by retrieving data from the passthru info endpoint.
 	 *
 	 * @param stats a map to store passthru information as key-value pairs
+	 * @param key property key of the stream passthru
+	 * @return false if the lookup failed or was skipped
 	 * @throws ResourceNotReachableException if the passthru information cannot be retrieved
 	 */
-	private void populatePassthru(Map<String, String> stats, String passthruID, String name) {
+	private boolean populatePassthru(Map<String, String> stats, String passthruID, String key) {
 		if (passthruID.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.PASSTHRU, HaivisionConstant.NONE);
-			return;
+			stats.put(key, HaivisionConstant.NONE);
+			return true;
 		}
 		try{
-			JsonNode responsePassthruOutput = this.doGet(String.format(HaivisionCommand.GET_OUTPUT_BY_ID, passthruID), JsonNode.class);
+			JsonNode responsePassthruOutput = fetch(HaivisionCommand.GET_OUTPUT_BY_ID, passthruID);
+			if (responsePassthruOutput == null) {
+				return false;
+			}
 			String passthruName = responsePassthruOutput.get(HaivisionConstant.NAME).asText();
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.PASSTHRU, getDefaultValueForNullData(passthruName));
+			stats.put(key, getDefaultValueForNullData(passthruName));
+			return true;
+		} catch (RequestSkippedException e) {
+			// the entry stays incomplete and is resolved again by the next poll
+			return false;
 		} catch (Exception e) {
-			logger.error("Error while populating the passthru output info", e);
+			errorLog.error(HaivisionCommand.GET_OUTPUT_BY_ID, "Error while populating the passthru output info", e);
+			return false;
 		}
 	}
 
@@ -713,28 +2533,37 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * Populates output information into the provided stats map by retrieving data from the output info endpoint.
 	 *
 	 * @param stats a map to store output information as key-value pairs
+	 * @param key property key of the stream output
+	 * @return false if the lookup failed or was skipped
 	 * @throws ResourceNotReachableException if the output information cannot be retrieved
 	 */
-	private void populateOutput(Map<String, String> stats, String jsonString, String name) {
+	private boolean populateOutput(Map<String, String> stats, String jsonString, String key) {
 		if (jsonString.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			return;
+			return true;
 		}
 		try{
-			JsonNode node = objectMapper.readTree(jsonString);
+			JsonNode node = SharedResources.jsonReader().readTree(jsonString);
 			if (!node.isArray()) {
-				return;
+				return true;
 			}
 			List<String> outputNames = new ArrayList<>();
 			for (JsonNode outputUuidNode : node) {
 				String outputID = outputUuidNode.asText();
-				JsonNode responseOutput = this.doGet(String.format(HaivisionCommand.GET_OUTPUT_BY_ID, outputID), JsonNode.class);
+				JsonNode responseOutput = fetch(HaivisionCommand.GET_OUTPUT_BY_ID, outputID);
+				if (responseOutput == null) {
+					return false;
+				}
 				String inputName = responseOutput.get(HaivisionConstant.NAME).asText();
 				outputNames.add(inputName);
 			}
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + "Output", getDefaultValueForNullData(String.join(", ", outputNames)));
-
+			stats.put(key, getDefaultValueForNullData(String.join(", ", outputNames)));
+			return true;
+		} catch (RequestSkippedException e) {
+			// the entry stays incomplete and is resolved again by the next poll
+			return false;
 		} catch (Exception e) {
-			logger.error("Error while populating the output info", e);
+			errorLog.error(HaivisionCommand.GET_OUTPUT_BY_ID, "Error while populating the output info", e);
+			return false;
 		}
 	}
 
@@ -742,25 +2571,35 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * Populates transcoder information into the provided stats map by retrieving data from the transcoder info endpoint.
 	 *
 	 * @param stats a map to store transcoder information as key-value pairs
+	 * @param key property key of the stream transcoder
+	 * @return false if the lookup failed or was skipped
 //	 * @throws ResourceNotReachableException if the transcoder information cannot be retrieved
 	 */
-	private void populateTranscoder(Map<String, String> stats, String transcoderID, String name) {
+	private boolean populateTranscoder(Map<String, String> stats, String transcoderID, String key) {
 		if (transcoderID.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.TRANSCODER, HaivisionConstant.NONE);
-			return;
+			stats.put(key, HaivisionConstant.NONE);
+			return true;
 		}
 		try{
-			JsonNode responseTranscoder = this.doGet(String.format(HaivisionCommand.GET_TRANSCODER_BY_ID, transcoderID), JsonNode.class);
+			JsonNode responseTranscoder = fetch(HaivisionCommand.GET_TRANSCODER_BY_ID, transcoderID);
+			if (responseTranscoder == null) {
+				return false;
+			}
 			String transcoderName = responseTranscoder.get(HaivisionConstant.NAME).asText();
-			stats.put(HaivisionConstant.STREAM + name + HaivisionConstant.HASH + HaivisionConstant.TRANSCODER, transcoderName);
+			stats.put(key, transcoderName);
+			return true;
+		} catch (RequestSkippedException e) {
+			// the entry stays incomplete and is resolved again by the next poll
+			return false;
 		} catch (Exception e) {
-			logger.error("Error while populating the transcoder info", e);
+			errorLog.error(HaivisionCommand.GET_TRANSCODER_BY_ID, "Error while populating the transcoder info", e);
+			return false;
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
-   */
+	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
 
@@ -795,19 +2634,29 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 
 	/**
 	 * Extracts the session ID from the JSON response body.
-	 * Parses the JSON string to retrieve the value of the "id" field.
+	 * Streams the body through the shared parser factory and stops at the top level "id" field,
+	 * without buffering the body or building a tree.
 	 * Returns the session ID if present, or {@code null} if not found or if parsing fails.
 	 *
-	 * @param responseBody JSON string containing the session information.
+	 * @param responseBody stream of the JSON body containing the session information.
 	 * @return The session ID, or {@code null} if not found or on error.
 	 */
-	private String extractSessionId(String responseBody) {
-		try {
-			ObjectMapper mapper = new ObjectMapper();
-			JsonNode rootNode = mapper.readTree(responseBody);
-			return rootNode.path("id").asText(null);
+	private String extractSessionId(InputStream responseBody) {
+		try (JsonParser parser = SharedResources.jsonReader().getFactory().createParser(responseBody)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				if ("id".equals(field)) {
+					return value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+				}
+				parser.skipChildren();
+			}
+			return null;
 		} catch (Exception e) {
-			logger.error("Error parsing session ID from response:", e);
+			errorLog.error(HaivisionCommand.API_LOGIN, "Error parsing session ID from response", e);
 			return null;
 		}
 	}
@@ -819,9 +2668,7 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * @param cookie cookie value
 	 */
 	private String extractUUIDFromCookie(String cookie) {
-		//Pattern pattern = Pattern.compile("id=([^;]+)");
-		Pattern uuidPattern = Pattern.compile("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}");
-		Matcher matcher = uuidPattern.matcher(cookie);
+		Matcher matcher = UUID_PATTERN.matcher(cookie);
 
 		return matcher.find() ? matcher.group() : "";
 	}
@@ -837,18 +2684,360 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 		if (inputValue.equals(HaivisionConstant.NONE)) {
 			return inputValue;
 		}
+		String formatted = FORMATTED_DATES.get(inputValue);
+		AdapterEvents.cacheAccess(HaivisionConstant.FORMATTED_DATES_CACHE, formatted != null);
+		if (formatted != null) {
+			return formatted;
+		}
 		try {
-			long milliseconds = Long.parseLong(inputValue) * 1000;
-			Date date = new Date(milliseconds);
-			SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, yyyy, h:mm a");
-			dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
-			return dateFormat.format(date);
+			long seconds = Long.parseLong(inputValue);
+			formatted = DATE_FORMATTER.format(Instant.ofEpochSecond(seconds));
+			if (FORMATTED_DATES.size() >= FORMATTED_DATES_LIMIT) {
+				FORMATTED_DATES.clear();
+			}
+			FORMATTED_DATES.put(inputValue, formatted);
+			return formatted;
 		} catch (Exception e) {
-			logger.error("Error when converting date data", e);
+			errorLog.error(HaivisionConstant.FORMATTED_DATES_CACHE, "Error when converting date data", e);
 			return HaivisionConstant.NONE;
 		}
 	}
 
+	/**
+	 * Retrieve an endpoint through its circuit breaker.
+	 * Requests to an endpoint whose breaker is open, or that the firmware does not expose, are skipped instead of
+	 * being sent to the device, and fail like a request the device did not answer.
+	 *
+	 * @param command command (url template) of the endpoint, see {@link HaivisionCommand}
+	 * @param args arguments of the url template
+	 * @return response of the endpoint
+	 * @throws RequestSkippedException if the request was skipped
+	 * @throws Exception if the request failed
+	 */
+	private JsonNode fetch(String command, Object... args) throws Exception {
+		if (!isEndpointSupported(command)) {
+			throw new RequestSkippedException(command, String.format("%s is not exposed by firmware %s", command, capabilities.getVersion()));
+		}
+		if (args.length == 0 && !prefetched.isEmpty()) {
+			JsonNode response = prefetched.remove(command);
+			AdapterEvents.cacheAccess(HaivisionConstant.PREFETCH_CACHE, response != null);
+			if (response != null) {
+				return response;
+			}
+		}
+		String url = args.length == 0 ? command : String.format(command, args);
+		SingleFlight<String, JsonNode> requests = pollRequests;
+		if (requests == null) {
+			return request(command, url);
+		}
+		// within a poll every url is requested once, e.g. metadata or an output shared by several streams
+		AdapterEvents.cacheAccess(HaivisionConstant.POLL_REQUESTS_CACHE, requests.contains(url));
+		return requests.execute(url, () -> request(command, url));
+	}
+
+	/**
+	 * Send a request through the circuit breaker of its endpoint
+	 *
+	 * @param command command (url template) of the endpoint, see {@link HaivisionCommand}
+	 * @param url url of the request
+	 * @return response of the endpoint
+	 * @throws RequestSkippedException if the request was skipped by the circuit breaker
+	 * @throws Exception if the request failed
+	 */
+	private JsonNode request(String command, String url) throws Exception {
+		CircuitBreaker breaker = circuitBreakers.computeIfAbsent(command,
+				k -> new CircuitBreaker(breakerFailureThreshold, breakerBaseBackoff, breakerMaxBackoff));
+		if (!breaker.allowRequest()) {
+			throw new RequestSkippedException(command, String.format("Circuit breaker of %s is open, retry in %s ms", command, breaker.getRemainingBackoffMillis()));
+		}
+		TraceSpan span = pollTracer.start(HaivisionCommand.getEndpointName(command));
+		try {
+			return requestWithinBudget(breaker, command, url);
+		} finally {
+			pollTracer.end(span);
+		}
+	}
+
+	/**
+	 * Time a request may wait for the request budget of the host: until the deadline of the running poll,
+	 * or the poll timeout outside a poll
+	 *
+	 * @return timeout in nanoseconds
+	 */
+	private long getBudgetTimeout() {
+		return Math.max(0, getRequestDeadline() - System.nanoTime());
+	}
+
+	/**
+	 * Deadline of a request and of the lookups waited for: the deadline of the running poll, or the poll timeout
+	 * from now outside a poll
+	 *
+	 * @return deadline in nanoseconds, see {@link System#nanoTime()}
+	 */
+	private long getRequestDeadline() {
+		if (pollRequests == null) {
+			return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeout);
+		}
+		return pollDeadline;
+	}
+
+	/**
+	 * Send a request once admitted by the request budget of the host, within {@link #getBudgetTimeout()}
+	 *
+	 * @param breaker circuit breaker of the endpoint
+	 * @param command command (url template) of the endpoint, see {@link HaivisionCommand}
+	 * @param url url of the request
+	 * @return response of the endpoint
+	 * @throws RequestSkippedException if the request budget did not admit the request in time
+	 * @throws Exception if the request failed
+	 */
+	private JsonNode requestWithinBudget(CircuitBreaker breaker, String command, String url) throws Exception {
+		HostResources host = hostResources;
+		if (host == null) {
+			breaker.releaseTrial();
+			throw new IllegalStateException("Adapter is not initialized");
+		}
+		RequestBudget budget = host.getRequestBudget(requestsPerSecond, maxConcurrentRequests);
+		long waited;
+		try {
+			waited = budget.acquire(HaivisionCommand.getPriority(command), getBudgetTimeout(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException | RuntimeException e) {
+			// the request is never sent, a half-open breaker must admit the next one as its trial
+			breaker.releaseTrial();
+			throw e;
+		} catch (TimeoutException e) {
+			breaker.releaseTrial();
+			throw new RequestSkippedException(command, String.format("%s was not admitted by the request budget of %s in time", command, host.getHost()));
+		}
+		if (waited >= THROTTLE_THRESHOLD_NANOS) {
+			throttledRequests.incrementAndGet();
+			throttleWaitNanos.addAndGet(waited);
+		}
+		Object event = AdapterEvents.beginRequest(command);
+		long bytesBefore = transferStatistics.getCurrentThreadBytes();
+		int status = 0;
+		try {
+			JsonNode response = this.doGet(url, JsonNode.class);
+			status = HttpStatus.OK.value();
+			breaker.recordSuccess();
+			if (isProbe(command, url)) {
+				capabilities.recordSupported(command, response);
+			}
+			return response;
+		} catch (CommandFailureException e) {
+			status = e.getStatusCode();
+			if (isProbe(command, url) && isUnsupportedStatus(status)) {
+				capabilities.recordUnsupported(command);
+				logger.info(String.format("%s is not exposed by firmware %s, it is not requested for %s minutes", command, capabilities.getVersion(),
+						TimeUnit.MILLISECONDS.toMinutes(HaivisionConstant.UNSUPPORTED_ENDPOINT_REPROBE_INTERVAL)));
+			}
+			// the device answered that the item is gone, e.g. a lookup of a UUID that no longer exists; other
+			// client errors such as 401/403 on an expired session count as failures
+			if (isItemGoneStatus(status)) {
+				breaker.recordSuccess();
+			} else {
+				breaker.recordFailure();
+			}
+			throw e;
+		} catch (Exception e) {
+			breaker.recordFailure();
+			throw e;
+		} finally {
+			budget.release();
+			AdapterEvents.endRequest(event, status, transferStatistics.getCurrentThreadBytes() - bytesBefore);
+		}
+	}
+
+	/**
+	 * Check whether the response of a request tells the {@link #capabilities} of the firmware: the request is
+	 * made under a known version and has no per item argument. The system info is never probed, it reports the version.
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @param url url of the request
+	 * @return true if the response is recorded in the capabilities
+	 */
+	private boolean isProbe(String command, String url) {
+		return capabilities != null && command.equals(url) && !HaivisionCommand.GET_SYSTEM_INFO.equals(command);
+	}
+
+	/**
+	 * Check whether a status code means the requested item does not exist (anymore) on the device
+	 *
+	 * @param status HTTP status code
+	 * @return true for 404, 409 and 410
+	 */
+	private static boolean isItemGoneStatus(int status) {
+		return status == HttpStatus.NOT_FOUND.value() || status == HttpStatus.CONFLICT.value() || status == HttpStatus.GONE.value();
+	}
+
+	/**
+	 * Check whether a status code means the endpoint does not exist on the device
+	 *
+	 * @param status HTTP status code
+	 * @return true for 404, 405 and 501
+	 */
+	private static boolean isUnsupportedStatus(int status) {
+		return status == HttpStatus.NOT_FOUND.value() || status == HttpStatus.METHOD_NOT_ALLOWED.value()
+				|| status == HttpStatus.NOT_IMPLEMENTED.value();
+	}
+
+	/**
+	 * Reads the firmware version from the system info and selects the {@link #capabilities} of that version.
+	 * Capabilities are probed by the first requests under a version and kept until the version changes.
+	 * When the System section is polled the system info is handed over to it, so reading the version costs
+	 * no extra request. Otherwise the known version is reused and only read again every
+	 * {@link HaivisionConstant#CAPABILITIES_REFRESH_INTERVAL} or after a failed poll.
+	 */
+	private void resolveCapabilities() {
+		boolean systemEnabled = isSectionEnabled(HaivisionConstant.SYSTEM);
+		long now = System.currentTimeMillis();
+		// the System section reads the system info anyway, otherwise the known version is reused for a while
+		if (!systemEnabled && capabilities != null && now - capabilitiesCheckedAt < HaivisionConstant.CAPABILITIES_REFRESH_INTERVAL) {
+			return;
+		}
+		HostResources host = hostResources;
+		if (host == null) {
+			return;
+		}
+		try {
+			JsonNode response = fetch(HaivisionCommand.GET_SYSTEM_INFO);
+			if (response == null) {
+				return;
+			}
+			if (systemEnabled) {
+				prefetched.put(HaivisionCommand.GET_SYSTEM_INFO, response);
+			}
+			String version = response.path(SystemsEnum.VERSION.getField()).asText();
+			if (StringUtils.isNullOrEmpty(version)) {
+				return;
+			}
+			DeviceCapabilities resolved = host.getCapabilities(version);
+			if (resolved != capabilities && logger.isDebugEnabled()) {
+				logger.debug("Using the endpoint capabilities of firmware " + version);
+			}
+			capabilities = resolved;
+			capabilitiesCheckedAt = now;
+		} catch (RequestSkippedException e) {
+			// the system info is behind an open breaker, the known capabilities still apply
+		} catch (Exception e) {
+			errorLog.error(HaivisionCommand.GET_SYSTEM_INFO, "Unable to read the firmware version, endpoint capabilities are not checked", e);
+		}
+	}
+
+
+	/**
+	 * Populates the firmware version the endpoint capabilities apply to, the unsupported endpoints and the
+	 * missing optional fields
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populateCapabilitiesInfo(Map<String, String> stats) {
+		DeviceCapabilities current = capabilities;
+		if (current == null) {
+			return;
+		}
+		Set<String> unsupported = current.getUnsupportedEndpoints();
+		Set<String> missing = current.getMissingFields();
+		stats.put(CAPABILITIES_KEYS.get(0), current.getVersion());
+		stats.put(CAPABILITIES_KEYS.get(1), unsupported.isEmpty() ? HaivisionConstant.NONE : String.join(", ", unsupported));
+		stats.put(CAPABILITIES_KEYS.get(2), missing.isEmpty() ? HaivisionConstant.NONE : String.join(", ", missing));
+	}
+
+	/**
+	 * Writes the slowest trace of the last polls to the debug log when it changes
+	 */
+	private void logSlowestTrace() {
+		if (!logger.isDebugEnabled()) {
+			return;
+		}
+		PollTrace slowest = pollTracer.getSlowest();
+		if (slowest != null && slowest != loggedSlowestTrace) {
+			loggedSlowestTrace = slowest;
+			logger.debug(String.format("Slowest poll of the last %s: %s", HaivisionConstant.TRACE_POLLS, slowest.dump()));
+		}
+	}
+
+	/**
+	 * Populates the slowest trace of the last polls into the provided stats map: its top level spans and its
+	 * critical path, the slowest child of every span from the poll down
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populatePollTraceInfo(Map<String, String> stats) {
+		PollTrace slowest = pollTracer.getSlowest();
+		if (slowest == null) {
+			return;
+		}
+		StringBuilder sections = new StringBuilder();
+		for (TraceSpan span : slowest.getTopLevelSpans()) {
+			if (sections.length() > 0) {
+				sections.append(", ");
+			}
+			sections.append(span);
+		}
+		StringBuilder path = new StringBuilder();
+		for (TraceSpan span : slowest.getSlowestPath()) {
+			if (path.length() > 0) {
+				path.append(" > ");
+			}
+			path.append(span);
+		}
+		stats.put(POLL_TRACE_KEYS.get(0), slowest.getId());
+		stats.put(POLL_TRACE_KEYS.get(1), DATE_FORMATTER.format(Instant.ofEpochMilli(slowest.getStartedAt())));
+		stats.put(POLL_TRACE_KEYS.get(2), String.valueOf(slowest.getDurationMillis()));
+		stats.put(POLL_TRACE_KEYS.get(3), sections.length() == 0 ? HaivisionConstant.NONE : sections.toString());
+		stats.put(POLL_TRACE_KEYS.get(4), path.toString());
+	}
+
+	/**
+	 * Cancel a background task, interrupting it if running
+	 *
+	 * @param future task to cancel, may be null
+	 */
+	private void cancel(Future<?> future) {
+		if (future != null) {
+			future.cancel(true);
+		}
+	}
+
+	/**
+	 * Populates the state of the endpoint circuit breakers into the provided stats map
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populateCircuitBreakerInfo(Map<String, String> stats) {
+		for (Map.Entry<String, CircuitBreaker> entry : circuitBreakers.entrySet()) {
+			CircuitBreaker breaker = entry.getValue();
+			PropertyKeyTable keys = circuitBreakerKeys.get(entry.getKey());
+			stats.put(keys.get(0), breaker.getState().name());
+			stats.put(keys.get(1), String.valueOf(breaker.getConsecutiveFailures()));
+			stats.put(keys.get(2), String.valueOf(breaker.getRejectedRequests()));
+			stats.put(keys.get(3), String.valueOf(breaker.getRemainingBackoffMillis() / 1000));
+		}
+	}
+
+	/**
+	 * Populates the request budget configuration and throttling counters into the provided stats map
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populateRequestBudgetInfo(Map<String, String> stats) {
+		stats.put(REQUEST_BUDGET_KEYS.get(0), String.valueOf(throttledRequests.get()));
+		stats.put(REQUEST_BUDGET_KEYS.get(1), String.valueOf(TimeUnit.NANOSECONDS.toMillis(throttleWaitNanos.get())));
+	}
+
+	/**
+	 * Populates the response byte counters into the provided stats map
+	 *
+	 * @param stats a map to store adapter information as key-value pairs
+	 */
+	private void populateTransferInfo(Map<String, String> stats) {
+		stats.put(TRANSFER_KEYS.get(0), String.valueOf(transferStatistics.getCompressedBytes()));
+		stats.put(TRANSFER_KEYS.get(1), String.valueOf(transferStatistics.getUncompressedBytes()));
+		stats.put(TRANSFER_KEYS.get(2), String.valueOf(transferStatistics.getSavedPercent()));
+		stats.put(TRANSFER_KEYS.get(3), transferStatistics.getCompressedResponses() + "/" + transferStatistics.getResponses());
+	}
+
 	/**
 	 * @param path url of the request
 	 * @return String full path of the device
@@ -866,6 +3055,13 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * @return boolean
 	 */
 	private boolean isValidCookie() throws Exception {
+		if (warmSession) {
+			// the session opened by the warm-up is still fresh
+			warmSession = false;
+			if (StringUtils.isNotNullOrEmpty(authenticationCookie)) {
+				return true;
+			}
+		}
 		try {
 			if (!firstTimeInit) {
 				firstTimeInit = true;
@@ -878,7 +3074,7 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 		} catch (ResourceNotReachableException e) {
 			throw new ResourceNotReachableException("Failed to send login request to device", e);
 		} catch (Exception e) {
-			logger.error("Failed to retrieve cookie session", e);
+			errorLog.error(HaivisionCommand.API_LOGIN, "Failed to retrieve cookie session", e);
 		}
 		return StringUtils.isNotNullOrEmpty(authenticationCookie);
 	}
@@ -900,11 +3096,17 @@ public class HaivisionKrakenCommunicator extends RestCommunicator implements Mon
 	 * After deleting the session, the local authentication cookie is reset to an empty value.
 	 */
 	private void deleteCookieSession() {
+		Object event = AdapterEvents.beginAuthentication(HaivisionConstant.LOGOUT);
+		TraceSpan span = pollTracer.start(HaivisionConstant.LOGOUT);
+		boolean success = false;
 		try {
 			doGet(buildDeviceFullPath(HaivisionCommand.API_LOGOUT));
+			success = true;
 		} catch (Exception e) {
-			logger.error("Error while deleting session ID " + this.authenticationCookie, e);
+			errorLog.error(HaivisionCommand.API_LOGOUT, "Error while deleting session ID " + this.authenticationCookie, e);
 		} finally {
+			pollTracer.end(span);
+			AdapterEvents.endAuthentication(event, success);
 			// Clear the authentication cookie
 			this.authenticationCookie = HaivisionConstant.EMPTY;
 		}
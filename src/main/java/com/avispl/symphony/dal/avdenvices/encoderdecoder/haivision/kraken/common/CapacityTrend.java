@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load samples of the most recent polls, used to project when the device saturates.
+ * The projection extends the least-squares line of the samples to 100%; it is only made while the load grows.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class CapacityTrend {
+	private static final double SATURATED = 100;
+
+	private final long[] times;
+	private final double[] loads;
+	private int next;
+	private int size;
+
+	/**
+	 * Create an instance of CapacityTrend
+	 *
+	 * @param capacity number of samples kept
+	 */
+	public CapacityTrend(int capacity) {
+		this.times = new long[Math.max(2, capacity)];
+		this.loads = new double[times.length];
+	}
+
+	/**
+	 * Record a load sample, replacing the oldest one when the trend is full
+	 *
+	 * @param timeMillis time of the sample
+	 * @param loadPercent load of the device in percent
+	 */
+	public synchronized void add(long timeMillis, double loadPercent) {
+		times[next] = timeMillis;
+		loads[next] = loadPercent;
+		next = (next + 1) % times.length;
+		size = Math.min(size + 1, times.length);
+	}
+
+	/**
+	 * Project the time left before the load reaches 100%
+	 *
+	 * @return seconds until saturation, 0 if already saturated, -1 if there are not enough samples or the load
+	 * does not grow
+	 */
+	public synchronized long getSecondsToSaturation() {
+		if (size == 0) {
+			return -1;
+		}
+		int latest = (next - 1 + times.length) % times.length;
+		if (loads[latest] >= SATURATED) {
+			return 0;
+		}
+		if (size < 2) {
+			return -1;
+		}
+		// times relative to the latest sample keep the sums small
+		double sumT = 0;
+		double sumL = 0;
+		for (int i = 0; i < size; i++) {
+			sumT += times[i] - times[latest];
+			sumL += loads[i];
+		}
+		double meanT = sumT / size;
+		double meanL = sumL / size;
+		double covariance = 0;
+		double variance = 0;
+		for (int i = 0; i < size; i++) {
+			double t = times[i] - times[latest] - meanT;
+			covariance += t * (loads[i] - meanL);
+			variance += t * t;
+		}
+		if (variance == 0) {
+			return -1;
+		}
+		double slopePerMillis = covariance / variance;
+		if (slopePerMillis <= 0) {
+			return -1;
+		}
+		double loadNow = meanL - slopePerMillis * meanT;
+		double millis = (SATURATED - loadNow) / slopePerMillis;
+		return TimeUnit.MILLISECONDS.toSeconds(Math.max(0, (long) millis));
+	}
+
+	/**
+	 * Drop every sample
+	 */
+	public synchronized void clear() {
+		next = 0;
+		size = 0;
+	}
+}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
 
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestPriority;
+
 /**
  * Enum representing various the command.
  *
@@ -25,4 +27,49 @@ public class HaivisionCommand {
 	public final static String GET_INPUT_BY_ID = "/apis/v2/inputs/%s";
 	public final static String GET_OUTPUT_BY_ID = "/apis/v2/outputs/%s";
 	public final static String GET_TRANSCODER_BY_ID = "/apis/v2/transcoders/%s";
+
+	private static final String API_PREFIX = "apis/v2/";
+
+	/**
+	 * Build a readable endpoint name from a command, e.g. {@code apis/v2/system/network} becomes {@code SystemNetwork}
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return endpoint name usable in property names
+	 */
+	public static String getEndpointName(String command) {
+		String path = command.startsWith("/") ? command.substring(1) : command;
+		if (path.startsWith(API_PREFIX)) {
+			path = path.substring(API_PREFIX.length());
+		}
+		StringBuilder name = new StringBuilder(path.length());
+		for (String segment : path.split("/")) {
+			if (segment.isEmpty() || segment.contains("%")) {
+				continue;
+			}
+			name.append(Character.toUpperCase(segment.charAt(0))).append(segment.substring(1));
+		}
+		return name.toString();
+	}
+
+	/**
+	 * Priority of a command in the request budget: stream list and system health first, per-stream lookups next,
+	 * slowly changing data last
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return priority of the command
+	 */
+	public static RequestPriority getPriority(String command) {
+		switch (command) {
+			case GET_ALL_STREAMS:
+			case GET_SYSTEM_INFO:
+			case GET_SYSTEM_LOAD:
+				return RequestPriority.HIGH;
+			case GET_INPUT_BY_ID:
+			case GET_OUTPUT_BY_ID:
+			case GET_TRANSCODER_BY_ID:
+				return RequestPriority.NORMAL;
+			default:
+				return RequestPriority.LOW;
+		}
+	}
 }
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Enum representing various the constant.
  *
@@ -32,13 +34,144 @@ public class HaivisionConstant {
 	public static final String RTSP_SERVER_PORT = "RTSPServerPort";
 	public static final String SYSTEM = "System";
 	public static final String STREAM = "Stream_";
+	public static final String NETWORK_INTERFACE = "NetworkInterface_";
 	public static final String SERVICE = "Service";
 	public static final String METADATAS = "metadatas";
 	public static final String TRANSCODER = "Transcoder";
 	public static final String INPUT = "Input";
 	public static final String MEMORY = "memory";
 	public static final String CPU = "cpu";
+	public static final String GPUS = "gpus";
+	public static final String SYSTEM_METRIC = "system";
+	public static final String GPU = "GPU_";
 	public static final String PASSTHRU = "Passthru";
+	public static final String TRANSFER = "Transfer";
+	public static final String REQUEST_BUDGET = "RequestBudget";
+	public static final String TOPOLOGY_EVENTS = "TopologyEvents";
+	public static final String STREAMS_SUMMARY = "StreamsSummary";
+	public static final String CAPACITY = "Capacity";
+	public static final String CAPABILITIES = "Capabilities";
+	public static final String POLL_TRACE = "PollTrace";
+	public static final String LOGIN = "Login";
+	public static final String LOGOUT = "Logout";
+	public static final String FORMATTED_DATES_CACHE = "FormattedDates";
+	public static final String PREFETCH_CACHE = "Prefetch";
+	public static final String POLL_REQUESTS_CACHE = "PollRequests";
+	public static final String STATISTICS = "Statistics";
+	public static final String SNAPSHOT_FILE_PREFIX = "HaivisionKraken-";
+	public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+	public static final String CAPTURE_FILE_PREFIX = "HaivisionKrakenCapture-";
+	public static final String CIRCUIT_BREAKER = "CircuitBreaker";
+	public static final String POLL_STATUS = "PollStatus";
+	public static final String LICENSE = "License";
+	public static final String STREAMS = "Streams";
+	public static final String SYSTEM_LOAD = "SystemLoad";
+
+	/**
+	 * Default number of per-entity lookups running at the same time
+	 */
+	public static final int DEFAULT_LOOKUP_CONCURRENCY = 4;
+
+	/**
+	 * Default number of consecutive failures that opens the circuit breaker of an endpoint
+	 */
+	public static final int DEFAULT_BREAKER_FAILURE_THRESHOLD = 3;
+
+	/**
+	 * Default backoff of an endpoint the first time its breaker opens, doubled on each following opening
+	 */
+	public static final long DEFAULT_BREAKER_BASE_BACKOFF = 60000;
+
+	/**
+	 * Default upper bound of the endpoint backoff
+	 */
+	public static final long DEFAULT_BREAKER_MAX_BACKOFF = 900000;
+
+	/**
+	 * Default overall deadline of a statistics poll in milliseconds
+	 */
+	public static final long DEFAULT_POLL_TIMEOUT = 30000;
+
+	/**
+	 * Default sliding window in milliseconds over which similar errors are rate limited
+	 */
+	public static final long DEFAULT_ERROR_LOG_WINDOW = 60000;
+
+	/**
+	 * Default number of errors of the same source and class logged per window
+	 */
+	public static final int DEFAULT_ERROR_LOG_LIMIT = 3;
+
+	/**
+	 * Default time in milliseconds the logout may take when the adapter is destroyed
+	 */
+	public static final long DEFAULT_DESTROY_TIMEOUT = 3000;
+
+	/**
+	 * Default number of requests per second sent to a device host
+	 */
+	public static final double DEFAULT_REQUESTS_PER_SECOND = 20;
+
+	/**
+	 * Default number of requests in flight to a device host
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+
+	/**
+	 * Default speed factor of a capture replay, 1 replays with the recorded timing
+	 */
+	public static final double DEFAULT_REPLAY_SPEED = 1;
+
+	/**
+	 * Size in bytes after which a capture file is rolled over
+	 */
+	public static final long CAPTURE_MAX_FILE_BYTES = 16L * 1024 * 1024;
+
+	/**
+	 * Number of capture files kept per device
+	 */
+	public static final int CAPTURE_MAX_FILES = 8;
+
+	/**
+	 * Time in milliseconds after which the firmware version of the device is read again when the System
+	 * section, which reads it anyway, is not polled
+	 */
+	public static final long CAPABILITIES_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+	/**
+	 * Time in milliseconds an endpoint found unsupported is not requested, it is probed again afterwards
+	 */
+	public static final long UNSUPPORTED_ENDPOINT_REPROBE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+	/**
+	 * Number of UUID characters appended to the property group of streams sharing a name
+	 */
+	public static final int STREAM_UUID_SUFFIX_LENGTH = 8;
+
+	/**
+	 * Number of polls the projected saturation of the capacity is computed from
+	 */
+	public static final int CAPACITY_TREND_SAMPLES = 30;
+
+	/**
+	 * Number of polls whose trace is kept, the slowest of them is published
+	 */
+	public static final int TRACE_POLLS = 20;
+
+	/**
+	 * Maximum number of spans kept per poll trace
+	 */
+	public static final int TRACE_MAX_SPANS = 1024;
+
+	/**
+	 * Number of stream topology events kept in memory
+	 */
+	public static final int TOPOLOGY_EVENT_CAPACITY = 64;
+
+	/**
+	 * Number of most recent stream topology events published
+	 */
+	public static final int TOPOLOGY_RECENT_EVENTS = 10;
 
 	/**
 	 * Token timeout is 15 minutes, as this case reserve 5 minutes to make sure we never failed because of the timeout
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Property groups that can be selected for collection
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public enum PropertyGroup {
+	SYSTEM("System"), NETWORK("Network"), NETWORK_INTERFACE("NetworkInterface"), LICENSE("License"), STREAMS("Streams"),
+	METADATA("Metadata"), SERVICE("Service"), LOAD("Load"), GPU("GPU");
+	private static final Log logger = LogFactory.getLog(PropertyGroup.class);
+
+	private final String name;
+
+	PropertyGroup(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Parse a comma separated list of group names. An empty list selects every group.
+	 *
+	 * @param groups comma separated group names, e.g. "Streams, Load"
+	 * @return selected groups
+	 */
+	public static Set<PropertyGroup> ofList(String groups) {
+		if (groups == null || groups.trim().isEmpty()) {
+			return EnumSet.allOf(PropertyGroup.class);
+		}
+		Set<PropertyGroup> result = EnumSet.noneOf(PropertyGroup.class);
+		for (String group : groups.split(",")) {
+			String trimmed = group.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			PropertyGroup match = null;
+			for (PropertyGroup propertyGroup : values()) {
+				if (propertyGroup.name.equalsIgnoreCase(trimmed)) {
+					match = propertyGroup;
+					break;
+				}
+			}
+			if (match != null) {
+				result.add(match);
+			} else if (logger.isWarnEnabled()) {
+				logger.warn("Unknown property group: " + trimmed);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Immutable filter deciding which entries of the stream list are monitored.
+ * A stream is accepted when its name or UUID matches the include pattern (if any), neither matches the
+ * exclude pattern (if any) and its mode is one of the selected modes (if any).
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class StreamFilter {
+	private static final Log logger = LogFactory.getLog(StreamFilter.class);
+
+	/**
+	 * Filter accepting every stream
+	 */
+	public static final StreamFilter ACCEPT_ALL = new StreamFilter(null, null, Collections.emptySet());
+
+	private final Pattern include;
+	private final Pattern exclude;
+	private final Set<String> modes;
+
+	private StreamFilter(Pattern include, Pattern exclude, Set<String> modes) {
+		this.include = include;
+		this.exclude = exclude;
+		this.modes = modes;
+	}
+
+	/**
+	 * Build a filter from the adapter configuration. Blank values disable the corresponding criterion,
+	 * an invalid pattern is logged and ignored.
+	 *
+	 * @param include regex matched against the stream name and UUID, the stream is kept if either matches
+	 * @param exclude regex matched against the stream name and UUID, the stream is dropped if either matches
+	 * @param modes comma separated stream modes to keep, e.g. "transcoder, bypass"
+	 * @return stream filter
+	 */
+	public static StreamFilter of(String include, String exclude, String modes) {
+		Pattern includePattern = compile(include);
+		Pattern excludePattern = compile(exclude);
+		Set<String> modeSet = new HashSet<>();
+		if (modes != null) {
+			for (String mode : modes.split(",")) {
+				String trimmed = mode.trim();
+				if (!trimmed.isEmpty()) {
+					modeSet.add(normalizeMode(trimmed));
+				}
+			}
+		}
+		if (includePattern == null && excludePattern == null && modeSet.isEmpty()) {
+			return ACCEPT_ALL;
+		}
+		return new StreamFilter(includePattern, excludePattern, Collections.unmodifiableSet(modeSet));
+	}
+
+	/**
+	 * Check whether a stream is monitored
+	 *
+	 * @param name name of the stream
+	 * @param uuid UUID of the stream, may be null
+	 * @param mode raw mode of the stream as reported by the device, may be null
+	 * @return true if the stream passes the filter
+	 */
+	public boolean accept(String name, String uuid, String mode) {
+		if (include != null && !matches(include, name) && !matches(include, uuid)) {
+			return false;
+		}
+		if (exclude != null && (matches(exclude, name) || matches(exclude, uuid))) {
+			return false;
+		}
+		return modes.isEmpty() || (mode != null && modes.contains(normalizeMode(mode)));
+	}
+
+	/**
+	 * Check whether the filter drops anything at all
+	 *
+	 * @return true if every stream is accepted
+	 */
+	public boolean isAcceptAll() {
+		return this == ACCEPT_ALL;
+	}
+
+	private static boolean matches(Pattern pattern, String value) {
+		return value != null && pattern.matcher(value).find();
+	}
+
+	/**
+	 * The device reports bypass streams as "iorouter", accept both spellings
+	 */
+	private static String normalizeMode(String mode) {
+		String lower = mode.toLowerCase(Locale.ROOT);
+		return "bypass".equals(lower) ? "iorouter" : lower;
+	}
+
+	private static Pattern compile(String regex) {
+		if (regex == null || regex.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return Pattern.compile(regex.trim());
+		} catch (PatternSyntaxException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Invalid stream filter pattern, ignoring it: " + regex, e);
+			}
+			return null;
+		}
+	}
+}
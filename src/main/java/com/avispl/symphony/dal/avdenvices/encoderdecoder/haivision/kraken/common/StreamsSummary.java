@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stream counters accumulated while the stream list of a poll is traversed: streams by status, by mode,
+ * with and without outputs, and the number of outputs.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class StreamsSummary {
+	private final Map<String, Integer> byStatus = new TreeMap<>();
+	private final Map<String, Integer> byMode = new TreeMap<>();
+	private int total;
+	private int withOutputs;
+	private int outputs;
+
+	/**
+	 * Count a stream
+	 *
+	 * @param status status of the stream
+	 * @param mode display name of the stream mode
+	 * @param outputCount number of outputs of the stream
+	 */
+	public void add(String status, String mode, int outputCount) {
+		total++;
+		byStatus.merge(status, 1, Integer::sum);
+		byMode.merge(mode, 1, Integer::sum);
+		if (outputCount > 0) {
+			withOutputs++;
+			outputs += outputCount;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #byStatus}
+	 *
+	 * @return number of streams keyed by status
+	 */
+	public Map<String, Integer> getByStatus() {
+		return byStatus;
+	}
+
+	/**
+	 * Retrieves {@link #byMode}
+	 *
+	 * @return number of streams keyed by mode
+	 */
+	public Map<String, Integer> getByMode() {
+		return byMode;
+	}
+
+	/**
+	 * Retrieves {@link #total}
+	 *
+	 * @return value of {@link #total}
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves {@link #withOutputs}
+	 *
+	 * @return value of {@link #withOutputs}
+	 */
+	public int getWithOutputs() {
+		return withOutputs;
+	}
+
+	/**
+	 * Retrieves the number of streams without output
+	 *
+	 * @return total minus {@link #withOutputs}
+	 */
+	public int getWithoutOutputs() {
+		return total - withOutputs;
+	}
+
+	/**
+	 * Retrieves {@link #outputs}
+	 *
+	 * @return value of {@link #outputs}
+	 */
+	public int getOutputs() {
+		return outputs;
+	}
+}
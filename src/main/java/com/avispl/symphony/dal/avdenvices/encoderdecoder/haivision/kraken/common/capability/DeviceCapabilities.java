@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionConstant;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Endpoints and optional fields exposed by a device running a given firmware version, shared by every adapter
+ * instance of the JVM talking to that device through the resources of its host.
+ * Endpoints are probed by their first request under the version: an endpoint answering 404, 405 or 501 is
+ * unsupported and is not requested until its re-probe delay elapses, so a 404 answered while a service restarts
+ * does not disable the endpoint for the whole version. One answering is supported and the presence of its optional
+ * fields is recorded. Other failures leave the endpoint unknown, so it is probed again. Endpoints with per item
+ * arguments are never probed, a 404 there only means the item does not exist.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class DeviceCapabilities {
+	/**
+	 * Fields of endpoint responses that some firmware builds or hardware do not report, keyed by command
+	 */
+	private static final Map<String, List<String>> OPTIONAL_FIELDS = new HashMap<>();
+
+	static {
+		OPTIONAL_FIELDS.put(HaivisionCommand.GET_SYSTEM_LOAD, Arrays.asList(HaivisionConstant.GPUS, HaivisionConstant.MEMORY, HaivisionConstant.CPU, HaivisionConstant.SYSTEM_METRIC));
+		OPTIONAL_FIELDS.put(HaivisionCommand.GET_RTSP, Collections.singletonList("rtsp_port"));
+		OPTIONAL_FIELDS.put(HaivisionCommand.GET_METADATA, Collections.singletonList(HaivisionConstant.METADATA_LIST));
+		OPTIONAL_FIELDS.put(HaivisionCommand.GET_LICENSE_INFO, Arrays.asList("max_encoders", "active_transcoder_sessions", "active_bypass_sessions"));
+	}
+
+	private final String version;
+	private final long reprobeMillis;
+	private final LongSupplier clock;
+	private final Map<String, Boolean> endpoints = new ConcurrentHashMap<>();
+	private final Map<String, Long> reprobeAt = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> fields = new ConcurrentHashMap<>();
+
+	/**
+	 * Create an instance of DeviceCapabilities
+	 *
+	 * @param version firmware version reported by the device
+	 * @param reprobeMillis time in milliseconds an unsupported endpoint is not requested
+	 */
+	public DeviceCapabilities(String version, long reprobeMillis) {
+		this(version, reprobeMillis, System::currentTimeMillis);
+	}
+
+	/**
+	 * Create an instance of DeviceCapabilities reading the time from the given clock
+	 *
+	 * @param version firmware version reported by the device
+	 * @param reprobeMillis time in milliseconds an unsupported endpoint is not requested
+	 * @param clock current time in milliseconds
+	 */
+	DeviceCapabilities(String version, long reprobeMillis, LongSupplier clock) {
+		this.version = version;
+		this.reprobeMillis = reprobeMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * Retrieves {@link #version}
+	 *
+	 * @return value of {@link #version}
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Check whether an endpoint may be requested
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return false only if the endpoint is known to be unsupported
+	 */
+	public boolean isSupported(String command) {
+		if (!Boolean.FALSE.equals(endpoints.get(command))) {
+			return true;
+		}
+		Long at = reprobeAt.get(command);
+		if (at != null && clock.getAsLong() >= at) {
+			// the endpoint is unknown again, its next request probes it
+			endpoints.remove(command, Boolean.FALSE);
+			reprobeAt.remove(command, at);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether an optional field of an endpoint may be reported
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @param field name of the field in the response
+	 * @return false only if the endpoint is unsupported or known not to report the field
+	 */
+	public boolean hasField(String command, String field) {
+		return isSupported(command) && !Boolean.FALSE.equals(fields.get(command + '.' + field));
+	}
+
+	/**
+	 * Record the response of an endpoint, the first one under the version probes its optional fields
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @param response response of the endpoint
+	 */
+	public void recordSupported(String command, JsonNode response) {
+		if (endpoints.put(command, Boolean.TRUE) == Boolean.TRUE || response == null) {
+			return;
+		}
+		List<String> optional = OPTIONAL_FIELDS.get(command);
+		if (optional != null) {
+			for (String field : optional) {
+				fields.put(command + '.' + field, response.has(field));
+			}
+		}
+	}
+
+	/**
+	 * Record an endpoint the device does not expose, it is not requested until the re-probe delay elapses
+	 *
+	 * @param command command (url template) of the endpoint
+	 */
+	public void recordUnsupported(String command) {
+		reprobeAt.put(command, clock.getAsLong() + reprobeMillis);
+		endpoints.put(command, Boolean.FALSE);
+	}
+
+	/**
+	 * Retrieve the endpoints known to be unsupported
+	 *
+	 * @return readable names of the unsupported endpoints, sorted
+	 */
+	public Set<String> getUnsupportedEndpoints() {
+		Set<String> names = new TreeSet<>();
+		for (Map.Entry<String, Boolean> endpoint : endpoints.entrySet()) {
+			if (!endpoint.getValue()) {
+				names.add(HaivisionCommand.getEndpointName(endpoint.getKey()));
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Retrieve the optional fields known to be missing from supported endpoints
+	 *
+	 * @return missing fields as endpoint name and field name, sorted
+	 */
+	public Set<String> getMissingFields() {
+		Set<String> names = new TreeSet<>();
+		for (Map.Entry<String, Boolean> field : fields.entrySet()) {
+			if (!field.getValue()) {
+				String key = field.getKey();
+				int separator = key.lastIndexOf('.');
+				names.add(HaivisionCommand.getEndpointName(key.substring(0, separator)) + key.substring(separator));
+			}
+		}
+		return names;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Capture mode - device responses are either exchanged with the device only, also recorded to disk,
+ * or replayed from disk without any device
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public enum CaptureMode {
+	OFF("Off"), RECORD("Record"), REPLAY("Replay");
+
+	private final String mode;
+
+	CaptureMode(String mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * Retrieve {@link CaptureMode} instance based on the text value of the mode
+	 *
+	 * @param mode name of the mode to retrieve
+	 * @return instance of {@link CaptureMode}, {@link #OFF} if unknown
+	 */
+	public static CaptureMode ofString(String mode) {
+		return Arrays.stream(values())
+				.filter(captureMode -> Objects.equals(mode, captureMode.mode))
+				.findFirst()
+				.orElse(OFF);
+	}
+}
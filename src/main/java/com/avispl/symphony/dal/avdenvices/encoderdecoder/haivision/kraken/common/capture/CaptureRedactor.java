@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Removes credentials and session ids from captured exchanges while keeping their shape, so a redacted capture
+ * still logs in and polls when it is replayed: session ids are replaced by a fixed UUID, secrets by a marker.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class CaptureRedactor {
+	/**
+	 * Session id every recorded session id is replaced with
+	 */
+	public static final String REDACTED_SESSION = "00000000-0000-0000-0000-000000000000";
+
+	/**
+	 * Value of redacted credentials
+	 */
+	public static final String REDACTED = "<redacted>";
+
+	private static final Pattern UUID_PATTERN = Pattern.compile("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}");
+	private static final Pattern SECRET_FIELD = Pattern.compile("(?i).*(password|passphrase|secret|token|credential).*");
+	private static final String SESSION_FIELD = "id";
+
+	private CaptureRedactor() {
+	}
+
+	/**
+	 * Redact the headers of a request or a response
+	 *
+	 * @param headers headers to redact
+	 * @return redacted copy of the headers
+	 */
+	public static Map<String, List<String>> redactHeaders(Map<String, List<String>> headers) {
+		Map<String, List<String>> redacted = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+			String name = header.getKey();
+			List<String> values = new ArrayList<>(header.getValue().size());
+			for (String value : header.getValue()) {
+				if ("Authorization".equalsIgnoreCase(name) || "Proxy-Authorization".equalsIgnoreCase(name)) {
+					values.add(REDACTED);
+				} else if ("Cookie".equalsIgnoreCase(name) || "Set-Cookie".equalsIgnoreCase(name)) {
+					values.add(UUID_PATTERN.matcher(value).replaceAll(REDACTED_SESSION));
+				} else {
+					values.add(value);
+				}
+			}
+			redacted.put(name, values);
+		}
+		return redacted;
+	}
+
+	/**
+	 * Redact a JSON response body; a body that is not JSON is kept as is
+	 *
+	 * @param body response body
+	 * @param session true if the body answers a login, its session id is redacted too
+	 * @return redacted body
+	 */
+	public static String redactBody(String body, boolean session) {
+		if (body == null || body.isEmpty()) {
+			return body;
+		}
+		JsonNode root;
+		try {
+			root = SharedResources.jsonReader().readTree(body);
+		} catch (Exception e) {
+			return body;
+		}
+		if (root == null || !redact(root, session)) {
+			return body;
+		}
+		return root.toString();
+	}
+
+	/**
+	 * Redact the secrets of a JSON tree in place
+	 *
+	 * @param node node to redact
+	 * @param session true to redact the top level session id
+	 * @return true if anything was redacted
+	 */
+	private static boolean redact(JsonNode node, boolean session) {
+		boolean redacted = false;
+		if (node.isObject()) {
+			ObjectNode object = (ObjectNode) node;
+			if (session && object.path(SESSION_FIELD).isTextual()) {
+				object.put(SESSION_FIELD, REDACTED_SESSION);
+				redacted = true;
+			}
+			Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				if (field.getValue().isValueNode() && SECRET_FIELD.matcher(field.getKey()).matches()) {
+					field.setValue(object.textNode(REDACTED));
+					redacted = true;
+				} else if (field.getValue().isContainerNode()) {
+					redacted |= redact(field.getValue(), false);
+				}
+			}
+		} else if (node.isArray()) {
+			for (JsonNode element : node) {
+				redacted |= redact(element, false);
+			}
+		}
+		return redacted;
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.CapturedExchange;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Rolling on-disk capture of device exchanges. Exchanges are appended as JSON lines, so a capture can also be
+ * inspected with common tools; a file is rolled over once it exceeds its size limit and the oldest files are
+ * deleted beyond the file limit. File names sort by creation, which is the order exchanges are replayed in.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class CaptureStore implements AutoCloseable {
+	private static final String SUFFIX = ".capture";
+	private static final ObjectReader EXCHANGE_READER = SharedResources.jsonReader().forType(CapturedExchange.class);
+
+	private final Path directory;
+	private final String prefix;
+	private final long maxFileBytes;
+	private final int maxFiles;
+	private BufferedWriter writer;
+	private long written;
+	private int sequence;
+
+	/**
+	 * Create an instance of CaptureStore
+	 *
+	 * @param directory directory of the capture files
+	 * @param prefix prefix of the capture files, identifying the device
+	 * @param maxFileBytes size after which a file is rolled over
+	 * @param maxFiles number of files kept
+	 */
+	public CaptureStore(Path directory, String prefix, long maxFileBytes, int maxFiles) {
+		this.directory = directory;
+		this.prefix = prefix;
+		this.maxFileBytes = maxFileBytes;
+		this.maxFiles = Math.max(1, maxFiles);
+	}
+
+	/**
+	 * Retrieves {@link #directory}
+	 *
+	 * @return value of {@link #directory}
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Append an exchange to the current file, rolling it over when full
+	 *
+	 * @param exchange exchange to append
+	 * @throws IOException if the capture cannot be written
+	 */
+	public synchronized void append(CapturedExchange exchange) throws IOException {
+		if (writer == null || written >= maxFileBytes) {
+			roll();
+		}
+		String line = SharedResources.jsonWriter().writeValueAsString(exchange);
+		writer.write(line);
+		writer.newLine();
+		writer.flush();
+		written += line.length() + 1;
+	}
+
+	/**
+	 * Read every exchange of the capture in recording order; lines that cannot be parsed are skipped
+	 *
+	 * @return captured exchanges, empty if there is no capture
+	 * @throws IOException if the capture cannot be read
+	 */
+	public List<CapturedExchange> readAll() throws IOException {
+		List<CapturedExchange> exchanges = new ArrayList<>();
+		for (Path file : listFiles()) {
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.isEmpty()) {
+						continue;
+					}
+					try {
+						exchanges.add(EXCHANGE_READER.readValue(line));
+					} catch (IOException e) {
+						// a line cut short by a crash while recording
+					}
+				}
+			}
+		}
+		return exchanges;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (writer != null) {
+			writer.close();
+			writer = null;
+		}
+	}
+
+	private void roll() throws IOException {
+		close();
+		Files.createDirectories(directory);
+		Path file = directory.resolve(String.format("%s%013d-%03d%s", prefix, System.currentTimeMillis(), sequence++ % 1000, SUFFIX));
+		writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		written = Files.size(file);
+		List<Path> files = listFiles();
+		for (int i = 0; i < files.size() - maxFiles; i++) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+
+	private List<Path> listFiles() throws IOException {
+		List<Path> files = new ArrayList<>();
+		if (!Files.isDirectory(directory)) {
+			return files;
+		}
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + SUFFIX)) {
+			for (Path file : stream) {
+				files.add(file);
+			}
+		}
+		files.sort(null);
+		return files;
+	}
+}
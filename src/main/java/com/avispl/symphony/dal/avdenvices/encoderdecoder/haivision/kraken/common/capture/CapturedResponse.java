@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpResponse;
+
+/**
+ * Response whose body is held in memory, either read from the device while recording or loaded from a capture
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class CapturedResponse extends AbstractClientHttpResponse {
+	private final int status;
+	private final HttpHeaders headers;
+	private final byte[] body;
+
+	/**
+	 * Create an instance of CapturedResponse
+	 *
+	 * @param status HTTP status code
+	 * @param headers response headers
+	 * @param body response body
+	 */
+	public CapturedResponse(int status, HttpHeaders headers, byte[] body) {
+		this.status = status;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	@Override
+	public int getRawStatusCode() {
+		return status;
+	}
+
+	@Override
+	public String getStatusText() {
+		HttpStatus httpStatus = HttpStatus.resolve(status);
+		return httpStatus != null ? httpStatus.getReasonPhrase() : "";
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return headers;
+	}
+
+	@Override
+	public InputStream getBody() {
+		return new ByteArrayInputStream(body);
+	}
+
+	@Override
+	public void close() {
+	}
+}
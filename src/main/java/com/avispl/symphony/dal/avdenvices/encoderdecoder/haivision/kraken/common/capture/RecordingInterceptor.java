@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.CapturedExchange;
+
+/**
+ * Interceptor writing every exchange with the device to a {@link CaptureStore}, with its timing and headers.
+ * Request bodies are not recorded, they only carry credentials and control values. The response body is read
+ * into memory and handed on unchanged; a capture that cannot be written never fails the request.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class RecordingInterceptor implements ClientHttpRequestInterceptor {
+	private static final Log logger = LogFactory.getLog(RecordingInterceptor.class);
+
+	private final CaptureStore store;
+	private final String sessionPath;
+
+	/**
+	 * Create an instance of RecordingInterceptor
+	 *
+	 * @param store capture to write to
+	 * @param sessionPath path of the login endpoint, whose responses carry the session id
+	 */
+	public RecordingInterceptor(CaptureStore store, String sessionPath) {
+		this.store = store;
+		this.sessionPath = sessionPath;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		long timestamp = System.currentTimeMillis();
+		long start = System.nanoTime();
+		byte[] responseBody;
+		CapturedResponse captured;
+		try (ClientHttpResponse response = execution.execute(request, body)) {
+			responseBody = StreamUtils.copyToByteArray(response.getBody());
+			captured = new CapturedResponse(response.getRawStatusCode(), response.getHeaders(), responseBody);
+		}
+		CapturedExchange exchange = new CapturedExchange();
+		exchange.setTimestamp(timestamp);
+		exchange.setDurationNanos(System.nanoTime() - start);
+		exchange.setMethod(String.valueOf(request.getMethod()));
+		exchange.setUri(target(request.getURI()));
+		exchange.setStatus(captured.getRawStatusCode());
+		exchange.setRequestHeaders(CaptureRedactor.redactHeaders(request.getHeaders()));
+		exchange.setResponseHeaders(CaptureRedactor.redactHeaders(captured.getHeaders()));
+		exchange.setBody(CaptureRedactor.redactBody(new String(responseBody, StandardCharsets.UTF_8),
+				request.getURI().getPath() != null && request.getURI().getPath().contains(sessionPath)));
+		try {
+			store.append(exchange);
+		} catch (IOException e) {
+			logger.warn("Unable to record the response of " + exchange.getUri() + " to " + store.getDirectory(), e);
+		}
+		return captured;
+	}
+
+	/**
+	 * Path and query of a request, the key exchanges are replayed by
+	 *
+	 * @param uri request URI
+	 * @return path and query of the URI
+	 */
+	static String target(URI uri) {
+		String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+		return uri.getRawQuery() != null ? path + "?" + uri.getRawQuery() : path;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.CapturedExchange;
+
+/**
+ * Transport answering requests from a capture instead of the device. The responses recorded for a method and
+ * target are served in recording order and start over once exhausted, so successive polls see the device
+ * change as it did while recording. Each response is delayed by its recorded duration divided by the speed
+ * factor; a non-positive factor serves responses without delay. A request that was never recorded gets a 404.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class ReplayInterceptor implements ClientHttpRequestInterceptor {
+	private final Map<String, Replay> replays = new HashMap<>();
+	private final double speed;
+
+	/**
+	 * Create an instance of ReplayInterceptor
+	 *
+	 * @param exchanges captured exchanges in recording order
+	 * @param speed speed factor, 1 for the original timing
+	 */
+	public ReplayInterceptor(List<CapturedExchange> exchanges, double speed) {
+		for (CapturedExchange exchange : exchanges) {
+			replays.computeIfAbsent(exchange.getMethod() + " " + exchange.getUri(), k -> new Replay()).exchanges.add(exchange);
+		}
+		this.speed = speed;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		Replay replay = replays.get(request.getMethod() + " " + RecordingInterceptor.target(request.getURI()));
+		if (replay == null) {
+			return new CapturedResponse(HttpStatus.NOT_FOUND.value(), new HttpHeaders(), new byte[0]);
+		}
+		CapturedExchange exchange = replay.next();
+		if (speed > 0) {
+			long delay = (long) (exchange.getDurationNanos() / speed);
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Replay of " + exchange.getUri() + " interrupted");
+			}
+		}
+		HttpHeaders headers = new HttpHeaders();
+		if (exchange.getResponseHeaders() != null) {
+			headers.putAll(exchange.getResponseHeaders());
+		}
+		// the body was recorded decoded
+		headers.remove(HttpHeaders.CONTENT_ENCODING);
+		headers.remove(HttpHeaders.CONTENT_LENGTH);
+		byte[] responseBody = exchange.getBody() != null ? exchange.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+		return new CapturedResponse(exchange.getStatus(), headers, responseBody);
+	}
+
+	/**
+	 * Recorded responses of one method and target with the position of the next one
+	 */
+	private static final class Replay {
+		private final List<CapturedExchange> exchanges = new ArrayList<>();
+		private final AtomicInteger position = new AtomicInteger();
+
+		CapturedExchange next() {
+			return exchanges.get(Math.floorMod(position.getAndIncrement(), exchanges.size()));
+		}
+	}
+}
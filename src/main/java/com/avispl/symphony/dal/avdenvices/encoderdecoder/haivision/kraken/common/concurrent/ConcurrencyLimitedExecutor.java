@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor view over a shared executor that runs at most {@code maxConcurrency} of its tasks at the same time.
+ * Tasks over the limit wait in a queue of the view, so they hold neither a permit nor a thread of the shared
+ * executor. Shutting the view down only affects its own tasks, never the shared executor.
+ * A task the shared executor rejects is not lost: a submitted task completes with the rejection, so nobody
+ * waits on it forever, and a plain runnable goes back to the head of the queue for the next drain.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class ConcurrencyLimitedExecutor extends AbstractExecutorService {
+	private final Executor delegate;
+	private final Semaphore permits;
+	private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+	private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger active = new AtomicInteger();
+	private final Object termination = new Object();
+	private volatile boolean shutdown;
+
+	/**
+	 * Create an instance of ConcurrencyLimitedExecutor
+	 *
+	 * @param delegate executor running the tasks
+	 * @param maxConcurrency maximum number of tasks running at the same time
+	 */
+	public ConcurrencyLimitedExecutor(Executor delegate, int maxConcurrency) {
+		this.delegate = delegate;
+		this.permits = new Semaphore(Math.max(1, maxConcurrency));
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+		return new RejectableTask<>(Executors.callable(runnable, value));
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+		return new RejectableTask<>(callable);
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (shutdown) {
+			throw new RejectedExecutionException("Executor is shut down");
+		}
+		queue.add(command);
+		drain();
+	}
+
+	/**
+	 * Hand queued tasks to the delegate while permits are available
+	 */
+	private void drain() {
+		while (!queue.isEmpty() && permits.tryAcquire()) {
+			Runnable next = queue.poll();
+			if (next == null) {
+				permits.release();
+				continue;
+			}
+			active.incrementAndGet();
+			try {
+				delegate.execute(() -> run(next));
+			} catch (RejectedExecutionException e) {
+				active.decrementAndGet();
+				permits.release();
+				if (next instanceof RejectableTask) {
+					((RejectableTask<?>) next).reject(e);
+				} else {
+					// retried when a task of the view completes or another one is submitted
+					queue.offerFirst(next);
+					return;
+				}
+			}
+		}
+	}
+
+	private void run(Runnable task) {
+		Thread thread = Thread.currentThread();
+		running.add(thread);
+		try {
+			task.run();
+		} finally {
+			running.remove(thread);
+			// do not leak the interrupt of a cancelled task to the next task of the shared thread
+			Thread.interrupted();
+			active.decrementAndGet();
+			permits.release();
+			drain();
+			signalTermination();
+		}
+	}
+
+	private void signalTermination() {
+		if (shutdown && active.get() == 0) {
+			synchronized (termination) {
+				termination.notifyAll();
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		signalTermination();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown = true;
+		List<Runnable> pending = new ArrayList<>();
+		Runnable next;
+		while ((next = queue.poll()) != null) {
+			pending.add(next);
+		}
+		for (Thread thread : running) {
+			thread.interrupt();
+		}
+		signalTermination();
+		return pending;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && queue.isEmpty() && active.get() == 0;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (termination) {
+			while (!isTerminated()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(termination, remaining);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Task submitted to the view, completed with the rejection if the shared executor refuses to run it
+	 */
+	private static final class RejectableTask<T> extends FutureTask<T> {
+		RejectableTask(Callable<T> callable) {
+			super(callable);
+		}
+
+		void reject(RejectedExecutionException e) {
+			setException(e);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor used for device I/O: endpoint fetches, per-entity lookups and ping attempts.
+ * This is the Java 8 implementation, backed by a bounded pool of daemon platform threads whose idle threads time out.
+ * The multi-release jar replaces this class on JDK 21+ with an implementation running every task on its own
+ * virtual thread, so callers only ever depend on this abstraction.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class DeviceExecutors {
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	/**
+	 * Threads of the shared pool; as many as the shared HTTP clients pool connections, more threads would only
+	 * wait for a connection
+	 */
+	private static final int MAX_THREADS = 256;
+
+	/**
+	 * Tasks waiting for a thread once every thread is busy, further tasks are rejected
+	 */
+	private static final int QUEUE_CAPACITY = 1024;
+
+	private DeviceExecutors() {
+	}
+
+	/**
+	 * Create the executor shared by adapter instances. Every instance runs its tasks through a
+	 * {@link ConcurrencyLimitedExecutor} view, which only hands over tasks it has a permit for; the pool itself
+	 * is bounded to {@link #MAX_THREADS} threads and {@link #QUEUE_CAPACITY} waiting tasks, however many
+	 * instances share it.
+	 *
+	 * @param name prefix of the thread names
+	 * @return new executor, to be shut down by the caller
+	 */
+	public static ExecutorService newSharedExecutor(String name) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(QUEUE_CAPACITY), new NamedThreadFactory(name));
+		// core threads time out as well, an idle adapter keeps no thread
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Check whether executors run their tasks on virtual threads
+	 *
+	 * @return false, virtual threads require JDK 21+
+	 */
+	public static boolean isVirtual() {
+		return false;
+	}
+
+	/**
+	 * Thread factory creating named daemon threads, so idle adapter threads never block a JVM shutdown
+	 */
+	private static class NamedThreadFactory implements ThreadFactory {
+		private final String name;
+		private final AtomicInteger counter = new AtomicInteger();
+
+		NamedThreadFactory(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
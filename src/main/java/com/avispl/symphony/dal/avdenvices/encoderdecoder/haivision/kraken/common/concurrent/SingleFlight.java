@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent executions of the same work: while a call for a key is running, other callers for
+ * that key wait for it and receive its result (or its failure) instead of running the work again.
+ * A memoizing instance also keeps successful results until {@link #clear()}, so later callers are served
+ * without running the work at all.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the results
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class SingleFlight<K, V> {
+	private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+	private final boolean memoize;
+
+	/**
+	 * Create an instance of SingleFlight
+	 *
+	 * @param memoize true to keep successful results until {@link #clear()}
+	 */
+	public SingleFlight(boolean memoize) {
+		this.memoize = memoize;
+	}
+
+	/**
+	 * Run the work for a key, or join the call already running (or memoized) for that key
+	 *
+	 * @param key key of the work
+	 * @param work work to run
+	 * @return result of the work
+	 * @throws Exception failure of the work
+	 */
+	public V execute(K key, Callable<V> work) throws Exception {
+		CompletableFuture<V> call = new CompletableFuture<>();
+		CompletableFuture<V> running = calls.putIfAbsent(key, call);
+		if (running != null) {
+			return await(running);
+		}
+		try {
+			V result = work.call();
+			call.complete(result);
+			if (!memoize) {
+				calls.remove(key, call);
+			}
+			return result;
+		} catch (Exception | Error e) {
+			call.completeExceptionally(e);
+			calls.remove(key, call);
+			throw e;
+		}
+	}
+
+	/**
+	 * Check whether a call for a key is running or memoized
+	 *
+	 * @param key key of the work
+	 * @return true if a caller would join an existing call
+	 */
+	public boolean contains(K key) {
+		return calls.containsKey(key);
+	}
+
+	/**
+	 * Forget the memoized results; running calls are not affected for the callers already waiting on them
+	 */
+	public void clear() {
+		calls.clear();
+	}
+
+	private static <V> V await(CompletableFuture<V> call) throws Exception {
+		try {
+			return call.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+}
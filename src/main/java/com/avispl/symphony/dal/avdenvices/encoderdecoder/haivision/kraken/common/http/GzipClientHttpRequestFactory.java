@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Request factory sharing an HttpClient but turning off its transparent content decoding,
+ * so that encoded bodies reach {@link GzipResponseInterceptor} as sent by the device.
+ * Timeouts and the other request settings of the client are kept, unless request settings of the
+ * communicator are given for a client shared between communicators.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class GzipClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+	private final RequestConfig requestConfig;
+
+	/**
+	 * Create an instance of GzipClientHttpRequestFactory
+	 *
+	 * @param httpClient client of the communicator
+	 */
+	public GzipClientHttpRequestFactory(HttpClient httpClient) {
+		this(httpClient, null);
+	}
+
+	/**
+	 * Create an instance of GzipClientHttpRequestFactory
+	 *
+	 * @param httpClient client shared between communicators
+	 * @param requestConfig request settings of the communicator, null to use the ones of the client
+	 */
+	public GzipClientHttpRequestFactory(HttpClient httpClient, RequestConfig requestConfig) {
+		super(httpClient);
+		this.requestConfig = requestConfig;
+	}
+
+	@Override
+	protected RequestConfig createRequestConfig(Object client) {
+		RequestConfig config = requestConfig != null ? requestConfig : super.createRequestConfig(client);
+		return RequestConfig.copy(config != null ? config : RequestConfig.DEFAULT).setContentCompressionEnabled(false).build();
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Advertises gzip support to the device and decompresses gzip encoded responses while they are read,
+ * so the JSON parser consumes the body directly from the network without buffering it.
+ * Requires a request factory that leaves the body encoded, see {@link GzipClientHttpRequestFactory}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class GzipResponseInterceptor implements ClientHttpRequestInterceptor {
+	private static final String GZIP = "gzip";
+
+	private final TransferStatistics statistics;
+
+	/**
+	 * Create an instance of GzipResponseInterceptor
+	 *
+	 * @param statistics counters updated as response bodies are read
+	 */
+	public GzipResponseInterceptor(TransferStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+		ClientHttpResponse response = execution.execute(request, body);
+		boolean compressed = isGzip(response.getHeaders());
+		statistics.recordResponse(compressed);
+		return new CountingResponse(response, compressed);
+	}
+
+	private static boolean isGzip(HttpHeaders headers) {
+		List<String> encodings = headers.get(HttpHeaders.CONTENT_ENCODING);
+		if (encodings != null) {
+			for (String encoding : encodings) {
+				if (encoding != null && encoding.trim().equalsIgnoreCase(GZIP)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Response exposing the decoded body, with the encoding headers removed accordingly
+	 */
+	private class CountingResponse implements ClientHttpResponse {
+		private final ClientHttpResponse delegate;
+		private final boolean compressed;
+		private HttpHeaders headers;
+		private InputStream body;
+
+		CountingResponse(ClientHttpResponse delegate, boolean compressed) {
+			this.delegate = delegate;
+			this.compressed = compressed;
+		}
+
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return delegate.getStatusCode();
+		}
+
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return delegate.getRawStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			if (headers == null) {
+				HttpHeaders copy = new HttpHeaders();
+				copy.putAll(delegate.getHeaders());
+				if (compressed) {
+					copy.remove(HttpHeaders.CONTENT_ENCODING);
+					copy.remove(HttpHeaders.CONTENT_LENGTH);
+				}
+				headers = copy;
+			}
+			return headers;
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (body == null) {
+				InputStream wire = new CountingInputStream(delegate.getBody(), true, !compressed);
+				body = compressed ? new CountingInputStream(new GZIPInputStream(wire), false, true) : wire;
+			}
+			return body;
+		}
+
+		@Override
+		public void close() {
+			try {
+				if (body != null) {
+					body.close();
+				}
+			} catch (IOException ignored) {
+				// the underlying response is closed below
+			}
+			delegate.close();
+		}
+	}
+
+	/**
+	 * Stream adding the bytes read to the compressed and/or uncompressed counters
+	 */
+	private class CountingInputStream extends FilterInputStream {
+		private final boolean countCompressed;
+		private final boolean countUncompressed;
+
+		CountingInputStream(InputStream in, boolean countCompressed, boolean countUncompressed) {
+			super(in);
+			this.countCompressed = countCompressed;
+			this.countUncompressed = countUncompressed;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+			if (value >= 0) {
+				count(1);
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count(read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			if (skipped > 0) {
+				count(skipped);
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void count(long bytes) {
+			if (countCompressed) {
+				statistics.addCompressedBytes(bytes);
+			}
+			if (countUncompressed) {
+				statistics.addUncompressedBytes(bytes);
+			}
+		}
+	}
+}
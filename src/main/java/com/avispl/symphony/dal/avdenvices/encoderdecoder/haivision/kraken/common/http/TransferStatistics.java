@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte counters of the response bodies read from the device.
+ * Compressed bytes are counted as received on the wire, uncompressed bytes as handed to the JSON parser;
+ * both counters grow by the same amount for responses the device sent uncompressed.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class TransferStatistics {
+	private final AtomicLong compressedBytes = new AtomicLong();
+	private final AtomicLong uncompressedBytes = new AtomicLong();
+	private final AtomicLong compressedResponses = new AtomicLong();
+	private final AtomicLong responses = new AtomicLong();
+	private final ThreadLocal<long[]> threadCompressedBytes = ThreadLocal.withInitial(() -> new long[1]);
+
+	/**
+	 * Record a response whose body is about to be read
+	 *
+	 * @param compressed true if the device sent the body gzip encoded
+	 */
+	void recordResponse(boolean compressed) {
+		responses.incrementAndGet();
+		if (compressed) {
+			compressedResponses.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Record bytes read from the wire
+	 *
+	 * @param count number of bytes
+	 */
+	void addCompressedBytes(long count) {
+		compressedBytes.addAndGet(count);
+		threadCompressedBytes.get()[0] += count;
+	}
+
+	/**
+	 * Record bytes handed to the reader of the response
+	 *
+	 * @param count number of bytes
+	 */
+	void addUncompressedBytes(long count) {
+		uncompressedBytes.addAndGet(count);
+	}
+
+	/**
+	 * Retrieves {@link #compressedBytes}
+	 *
+	 * @return value of {@link #compressedBytes}
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.get();
+	}
+
+	/**
+	 * Retrieves {@link #uncompressedBytes}
+	 *
+	 * @return value of {@link #uncompressedBytes}
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes.get();
+	}
+
+	/**
+	 * Retrieves {@link #compressedResponses}
+	 *
+	 * @return value of {@link #compressedResponses}
+	 */
+	public long getCompressedResponses() {
+		return compressedResponses.get();
+	}
+
+	/**
+	 * Retrieves {@link #responses}
+	 *
+	 * @return value of {@link #responses}
+	 */
+	public long getResponses() {
+		return responses.get();
+	}
+
+	/**
+	 * Retrieves the bytes read from the wire by the current thread, the difference of two readings around
+	 * a request gives the size of its response.
+	 * The body is read by the thread sending the request while the response is converted, before the request
+	 * returns, so a request sent from a lookup executor thread is attributed to that thread only, even while
+	 * other requests are read concurrently.
+	 *
+	 * @return bytes read from the wire by the current thread
+	 */
+	public long getCurrentThreadBytes() {
+		return threadCompressedBytes.get()[0];
+	}
+
+	/**
+	 * Retrieves the share of the uncompressed bytes that did not have to be transferred
+	 *
+	 * @return saved bandwidth in percent, 0 before anything was read
+	 */
+	public long getSavedPercent() {
+		long uncompressed = uncompressedBytes.get();
+		if (uncompressed <= 0) {
+			return 0;
+		}
+		return Math.max(0, (uncompressed - compressedBytes.get()) * 100 / uncompressed);
+	}
+
+	/**
+	 * Reset every counter
+	 */
+	public void reset() {
+		compressedBytes.set(0);
+		uncompressedBytes.set(0);
+		compressedResponses.set(0);
+		responses.set(0);
+	}
+}
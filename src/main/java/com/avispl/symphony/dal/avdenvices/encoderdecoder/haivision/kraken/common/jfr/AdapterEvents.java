@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.jfr;
+
+/**
+ * Emits Java Flight Recorder events for polls, endpoint requests, authentication and cache accesses.
+ * This is the Java 8 implementation, where every method is a no-op; JDK 11+ runtimes load the JFR backed
+ * implementation packaged under {@code META-INF/versions/11}.
+ * A {@code begin*} method returns a token to hand to the matching {@code end*} method, null when nothing is recorded.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class AdapterEvents {
+
+	private AdapterEvents() {
+	}
+
+	/**
+	 * Start a statistics poll
+	 *
+	 * @return token of the poll event
+	 */
+	public static Object beginPoll() {
+		return null;
+	}
+
+	/**
+	 * End a statistics poll
+	 *
+	 * @param token token returned by {@link #beginPoll()}
+	 * @param propertyCount number of published properties
+	 * @param success false if the poll failed
+	 */
+	public static void endPoll(Object token, int propertyCount, boolean success) {
+	}
+
+	/**
+	 * Start an endpoint request
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return token of the request event
+	 */
+	public static Object beginRequest(String command) {
+		return null;
+	}
+
+	/**
+	 * End an endpoint request
+	 *
+	 * @param token token returned by {@link #beginRequest(String)}
+	 * @param status HTTP status, 0 if no response was received
+	 * @param bytes bytes received on the wire
+	 */
+	public static void endRequest(Object token, int status, long bytes) {
+	}
+
+	/**
+	 * Start a login or logout
+	 *
+	 * @param action "Login" or "Logout"
+	 * @return token of the authentication event
+	 */
+	public static Object beginAuthentication(String action) {
+		return null;
+	}
+
+	/**
+	 * End a login or logout
+	 *
+	 * @param token token returned by {@link #beginAuthentication(String)}
+	 * @param success false if the action failed
+	 */
+	public static void endAuthentication(Object token, boolean success) {
+	}
+
+	/**
+	 * Record a cache lookup
+	 *
+	 * @param cache name of the cache
+	 * @param hit true if the value was found
+	 */
+	public static void cacheAccess(String cache, boolean hit) {
+	}
+}
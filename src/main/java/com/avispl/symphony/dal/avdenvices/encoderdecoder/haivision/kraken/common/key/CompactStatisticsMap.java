@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only map of published statistics stored as two parallel arrays sorted by key.
+ * Compared to a {@link java.util.HashMap} there is no entry object and no hash table per mapping, only two
+ * references, and the keys are the interned instances of the {@link PropertyKeyTable}s, so they are shared
+ * between polls and adapter instances. Lookups are binary searches.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class CompactStatisticsMap extends AbstractMap<String, String> {
+	private static final CompactStatisticsMap EMPTY = new CompactStatisticsMap(new String[0], new String[0]);
+
+	private final String[] keys;
+	private final String[] values;
+	private Set<Map.Entry<String, String>> entrySet;
+
+	private CompactStatisticsMap(String[] keys, String[] values) {
+		this.keys = keys;
+		this.values = values;
+	}
+
+	/**
+	 * Copy a map into a compact read-only map; null keys are dropped
+	 *
+	 * @param source map to copy
+	 * @return compact copy, the source itself if it already is compact
+	 */
+	public static CompactStatisticsMap copyOf(Map<String, String> source) {
+		if (source instanceof CompactStatisticsMap) {
+			return (CompactStatisticsMap) source;
+		}
+		if (source == null || source.isEmpty()) {
+			return EMPTY;
+		}
+		String[] keys = new String[source.size()];
+		int size = 0;
+		for (String key : source.keySet()) {
+			if (key != null) {
+				keys[size++] = key;
+			}
+		}
+		if (size < keys.length) {
+			keys = Arrays.copyOf(keys, size);
+		}
+		Arrays.sort(keys);
+		String[] values = new String[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = source.get(keys[i]);
+		}
+		return new CompactStatisticsMap(keys, values);
+	}
+
+	private int indexOf(Object key) {
+		if (!(key instanceof String)) {
+			return -1;
+		}
+		return Arrays.binarySearch(keys, key);
+	}
+
+	@Override
+	public int size() {
+		return keys.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public String get(Object key) {
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		Set<Map.Entry<String, String>> entries = entrySet;
+		if (entries == null) {
+			entries = new AbstractSet<Map.Entry<String, String>>() {
+				@Override
+				public Iterator<Map.Entry<String, String>> iterator() {
+					return new Iterator<Map.Entry<String, String>>() {
+						private int index;
+
+						@Override
+						public boolean hasNext() {
+							return index < keys.length;
+						}
+
+						@Override
+						public Map.Entry<String, String> next() {
+							if (index >= keys.length) {
+								throw new NoSuchElementException();
+							}
+							Map.Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+							index++;
+							return entry;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return keys.length;
+				}
+			};
+			entrySet = entries;
+		}
+		return entries;
+	}
+}
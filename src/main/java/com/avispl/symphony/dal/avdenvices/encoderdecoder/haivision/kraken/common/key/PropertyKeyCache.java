@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Key tables of entities (streams, network interfaces, endpoints...) that come and go between polls.
+ * A table is built the first time its entity is seen and reused until the entity disappears.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class PropertyKeyCache {
+	private final Map<String, PropertyKeyTable> tables = new ConcurrentHashMap<>();
+	private final Function<String, PropertyKeyTable> factory;
+
+	/**
+	 * Create an instance of PropertyKeyCache
+	 *
+	 * @param factory builds the key table of an entity
+	 */
+	public PropertyKeyCache(Function<String, PropertyKeyTable> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Retrieve the key table of an entity, building it on first use
+	 *
+	 * @param entity name of the entity
+	 * @return key table of the entity
+	 */
+	public PropertyKeyTable get(String entity) {
+		PropertyKeyTable table = tables.get(entity);
+		if (table == null) {
+			table = tables.computeIfAbsent(entity, factory);
+		}
+		return table;
+	}
+
+	/**
+	 * Retrieve the entities that have a key table
+	 *
+	 * @return copy of the entity names
+	 */
+	public Set<String> entities() {
+		return new HashSet<>(tables.keySet());
+	}
+
+	/**
+	 * Drop the key tables of entities that are no longer present
+	 *
+	 * @param entities entities seen in the latest poll
+	 */
+	public void retainAll(Collection<String> entities) {
+		tables.keySet().retainAll(entities);
+	}
+
+	/**
+	 * Drop every key table
+	 */
+	public void clear() {
+		tables.clear();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import java.util.function.Function;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionConstant;
+
+/**
+ * Precomputed, interned property keys of a single property group, e.g. {@code Stream_<name>#Status}.
+ * Keys are built once and looked up by index, so polls reuse the same String instances instead of
+ * concatenating them again.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class PropertyKeyTable {
+	private final String[] keys;
+
+	/**
+	 * Create an instance of PropertyKeyTable
+	 *
+	 * @param group group of the properties
+	 * @param names names of the properties within the group
+	 */
+	public PropertyKeyTable(String group, String... names) {
+		keys = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			keys[i] = (group + HaivisionConstant.HASH + names[i]).intern();
+		}
+	}
+
+	/**
+	 * Create a key table holding one key per enum constant, indexed by ordinal
+	 *
+	 * @param group group of the properties
+	 * @param items enum constants, in ordinal order
+	 * @param nameMapper maps a constant to its property name
+	 * @param <E> enum type
+	 * @return key table of the enum
+	 */
+	public static <E extends Enum<E>> PropertyKeyTable of(String group, E[] items, Function<E, String> nameMapper) {
+		String[] names = new String[items.length];
+		for (E item : items) {
+			names[item.ordinal()] = nameMapper.apply(item);
+		}
+		return new PropertyKeyTable(group, names);
+	}
+
+	/**
+	 * Retrieve the key at the given index
+	 *
+	 * @param index index of the property name the table was built with
+	 * @return property key
+	 */
+	public String get(int index) {
+		return keys[index];
+	}
+
+	/**
+	 * Retrieve the key of an enum constant of a table built with {@link #of(String, Enum[], Function)}
+	 *
+	 * @param item enum constant
+	 * @return property key
+	 */
+	public String get(Enum<?> item) {
+		return keys[item.ordinal()];
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.logging;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Error log deduplicated per source and error class, with a sliding-window rate limit.
+ * Within any window, at most {@code limit} errors of the same source and class are logged, the first with
+ * its stack trace and the following ones with their message only. The others are counted and reported by a
+ * "N similar errors suppressed" summary, attached to the next error logged or emitted by {@link #flush()}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class RateLimitedLog {
+	private final Log logger;
+	private final LongSupplier clock;
+	private final Map<String, Occurrences> occurrences = new ConcurrentHashMap<>();
+	private volatile long windowMillis;
+	private volatile int limit;
+
+	/**
+	 * Create an instance of RateLimitedLog
+	 *
+	 * @param logger log written to
+	 * @param windowMillis length of the sliding window in milliseconds
+	 * @param limit errors of the same source and class logged per window
+	 */
+	public RateLimitedLog(Log logger, long windowMillis, int limit) {
+		this(logger, windowMillis, limit, System::currentTimeMillis);
+	}
+
+	/**
+	 * Create an instance of RateLimitedLog reading the time from the given clock
+	 *
+	 * @param logger log written to
+	 * @param windowMillis length of the sliding window in milliseconds
+	 * @param limit errors of the same source and class logged per window
+	 * @param clock current time in milliseconds
+	 */
+	RateLimitedLog(Log logger, long windowMillis, int limit, LongSupplier clock) {
+		this.logger = logger;
+		this.clock = clock;
+		setLimits(windowMillis, limit);
+	}
+
+	/**
+	 * Update the limits; a non-positive window or limit logs every error
+	 *
+	 * @param windowMillis length of the sliding window in milliseconds
+	 * @param limit errors of the same source and class logged per window
+	 */
+	public void setLimits(long windowMillis, int limit) {
+		this.windowMillis = windowMillis;
+		this.limit = limit;
+	}
+
+	/**
+	 * Log an error unless too many similar errors were logged within the window
+	 *
+	 * @param source source of the error, such as the endpoint or the section, excluding any per item id
+	 * @param message message of the error
+	 * @param error cause of the error, may be null
+	 */
+	public void error(String source, String message, Throwable error) {
+		if (!logger.isErrorEnabled()) {
+			return;
+		}
+		if (windowMillis <= 0 || limit <= 0) {
+			logger.error(message, error);
+			return;
+		}
+		String key = source + '|' + (error == null ? "" : rootCause(error).getClass().getName());
+		Occurrences entry = occurrences.computeIfAbsent(key, k -> new Occurrences());
+		long now = clock.getAsLong();
+		int suppressed;
+		boolean first;
+		synchronized (entry) {
+			entry.expire(now - windowMillis);
+			if (entry.logged.size() >= limit) {
+				entry.suppressed++;
+				entry.lastMessage = message;
+				return;
+			}
+			first = entry.logged.isEmpty();
+			entry.logged.addLast(now);
+			suppressed = entry.suppressed;
+			entry.suppressed = 0;
+		}
+		String text = suppressed > 0 ? message + " (" + suppressed + " similar errors suppressed)" : message;
+		if (first || error == null) {
+			logger.error(text, error);
+		} else {
+			logger.error(text + ": " + rootCause(error));
+		}
+	}
+
+	/**
+	 * Emit the summary of sources whose errors were suppressed and are no longer logged, and forget the sources
+	 * quiet for a whole window
+	 */
+	public void flush() {
+		long windowStart = clock.getAsLong() - windowMillis;
+		Iterator<Map.Entry<String, Occurrences>> iterator = occurrences.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Occurrences> next = iterator.next();
+			Occurrences entry = next.getValue();
+			int suppressed;
+			String lastMessage;
+			synchronized (entry) {
+				entry.expire(windowStart);
+				if (!entry.logged.isEmpty()) {
+					continue;
+				}
+				suppressed = entry.suppressed;
+				lastMessage = entry.lastMessage;
+				iterator.remove();
+			}
+			if (suppressed > 0 && logger.isErrorEnabled()) {
+				logger.error(String.format("%s similar errors suppressed in the last %s ms, last one: %s", suppressed, windowMillis, lastMessage));
+			}
+		}
+	}
+
+	/**
+	 * Forget every error
+	 */
+	public void clear() {
+		occurrences.clear();
+	}
+
+	private static Throwable rootCause(Throwable error) {
+		Throwable cause = error;
+		while (cause.getCause() != null && cause.getCause() != cause) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	/**
+	 * Errors of a source and class: times of those logged within the window and the count of those suppressed
+	 */
+	private static final class Occurrences {
+		private final ArrayDeque<Long> logged = new ArrayDeque<>();
+		private int suppressed;
+		private String lastMessage;
+
+		private void expire(long windowStart) {
+			while (!logged.isEmpty() && logged.peekFirst() <= windowStart) {
+				logged.pollFirst();
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.avispl.symphony.api.dal.dto.monitor.GenericStatistics;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.PersistedSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.SectionSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.StreamEntry;
+
+/**
+ * Stores the last known snapshot of an adapter in a compact binary file (gzip compressed, length prefixed
+ * UTF-8 strings), so statistics can be served right after a restart and the first poll reuses the resolved streams.
+ * The file is replaced atomically; a missing, foreign or older format file yields no snapshot.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class SnapshotStore {
+	private static final int MAGIC = 0x484B534E;
+	private static final int VERSION = 2;
+
+	private final Path file;
+
+	/**
+	 * Create an instance of SnapshotStore
+	 *
+	 * @param file snapshot file
+	 */
+	public SnapshotStore(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Retrieves {@link #file}
+	 *
+	 * @return value of {@link #file}
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Write the snapshot, replacing the previous one
+	 *
+	 * @param snapshot snapshot to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(PersistedSnapshot snapshot) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(snapshot.getSavedAt());
+				writeMap(out, snapshot.getStatistics());
+				out.writeInt(snapshot.getSections().size());
+				for (Map.Entry<String, SectionSnapshot> entry : snapshot.getSections().entrySet()) {
+					writeString(out, entry.getKey());
+					out.writeLong(entry.getValue().getTimestamp());
+					writeMap(out, entry.getValue().getValues());
+				}
+				writeMap(out, snapshot.getCache());
+				out.writeInt(snapshot.getStreams().size());
+				for (Map.Entry<String, StreamEntry> entry : snapshot.getStreams().entrySet()) {
+					writeString(out, entry.getKey());
+					out.writeLong(entry.getValue().getHash());
+					writeString(out, entry.getValue().getGroup());
+					out.writeBoolean(entry.getValue().isComplete());
+					writeMap(out, entry.getValue().getProperties());
+				}
+				GenericStatistics generic = snapshot.getGenericStatistics();
+				Float cpu = generic == null ? null : generic.getCpuPercentage();
+				Long upTime = generic == null ? null : generic.getUpTime();
+				out.writeBoolean(cpu != null);
+				out.writeFloat(cpu == null ? 0 : cpu);
+				out.writeBoolean(upTime != null);
+				out.writeLong(upTime == null ? 0 : upTime);
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Read the snapshot
+	 *
+	 * @return stored snapshot, null if there is none
+	 * @throws IOException if the file exists but cannot be read
+	 */
+	public PersistedSnapshot load() throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			long savedAt = in.readLong();
+			Map<String, String> statistics = readMap(in);
+			int sectionCount = in.readInt();
+			Map<String, SectionSnapshot> sections = new LinkedHashMap<>();
+			for (int i = 0; i < sectionCount; i++) {
+				String name = readString(in);
+				long timestamp = in.readLong();
+				sections.put(name, new SectionSnapshot(readMap(in), timestamp));
+			}
+			Map<String, String> cache = readMap(in);
+			int streamCount = in.readInt();
+			Map<String, StreamEntry> streams = new LinkedHashMap<>();
+			for (int i = 0; i < streamCount; i++) {
+				String uuid = readString(in);
+				long hash = in.readLong();
+				String group = readString(in);
+				boolean complete = in.readBoolean();
+				streams.put(uuid, new StreamEntry(hash, group, readMap(in), complete));
+			}
+			GenericStatistics generic = new GenericStatistics();
+			boolean hasCpu = in.readBoolean();
+			float cpu = in.readFloat();
+			boolean hasUpTime = in.readBoolean();
+			long upTime = in.readLong();
+			if (hasCpu) {
+				generic.setCpuPercentage(cpu);
+			}
+			if (hasUpTime) {
+				generic.setUpTime(upTime);
+			}
+			return new PersistedSnapshot(savedAt, statistics, sections, cache, streams, generic);
+		}
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readMap(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		if (size < 0) {
+			throw new IOException("Corrupted snapshot");
+		}
+		Map<String, String> map = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+		for (int i = 0; i < size; i++) {
+			map.put(readString(in), readString(in));
+		}
+		return map;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
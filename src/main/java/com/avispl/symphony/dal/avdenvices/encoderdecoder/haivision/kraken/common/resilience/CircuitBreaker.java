@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding a single device endpoint.
+ * After {@link #failureThreshold} consecutive failures the breaker opens and rejects requests for an
+ * exponentially growing, jittered backoff period. Once the period elapses a single trial request is let
+ * through (half-open); its outcome either closes the breaker or opens it again with a longer backoff.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class CircuitBreaker {
+
+	/**
+	 * States of the breaker
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final LongSupplier clock;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private int consecutiveOpens;
+	private long openUntil;
+	private long rejectedRequests;
+
+	/**
+	 * Create an instance of CircuitBreaker
+	 *
+	 * @param failureThreshold number of consecutive failures that opens the breaker
+	 * @param baseBackoffMillis backoff applied the first time the breaker opens
+	 * @param maxBackoffMillis upper bound of the backoff
+	 */
+	public CircuitBreaker(int failureThreshold, long baseBackoffMillis, long maxBackoffMillis) {
+		this(failureThreshold, baseBackoffMillis, maxBackoffMillis, System::currentTimeMillis);
+	}
+
+	/**
+	 * Create an instance of CircuitBreaker reading the time from the given clock
+	 *
+	 * @param failureThreshold number of consecutive failures that opens the breaker
+	 * @param baseBackoffMillis backoff applied the first time the breaker opens
+	 * @param maxBackoffMillis upper bound of the backoff
+	 * @param clock current time in milliseconds
+	 */
+	CircuitBreaker(int failureThreshold, long baseBackoffMillis, long maxBackoffMillis, LongSupplier clock) {
+		this.clock = clock;
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.baseBackoffMillis = Math.max(1, baseBackoffMillis);
+		this.maxBackoffMillis = Math.max(this.baseBackoffMillis, maxBackoffMillis);
+	}
+
+	/**
+	 * Check whether a request may be sent to the endpoint.
+	 * An open breaker whose backoff has elapsed moves to half-open and admits exactly one trial request.
+	 *
+	 * @return true if the request may be sent
+	 */
+	public synchronized boolean allowRequest() {
+		switch (state) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				if (clock.getAsLong() >= openUntil) {
+					state = State.HALF_OPEN;
+					return true;
+				}
+				rejectedRequests++;
+				return false;
+			default:
+				// a trial request is already in flight
+				rejectedRequests++;
+				return false;
+		}
+	}
+
+	/**
+	 * Give back a request admitted by {@link #allowRequest()} that was never sent, e.g. interrupted while waiting
+	 * for the request budget. A trial request given back leaves the breaker open with its backoff elapsed,
+	 * so the next request is admitted as the trial.
+	 */
+	public synchronized void releaseTrial() {
+		if (state == State.HALF_OPEN) {
+			state = State.OPEN;
+			openUntil = clock.getAsLong();
+		}
+	}
+
+	/**
+	 * Record a successful request, closing the breaker
+	 */
+	public synchronized void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		consecutiveOpens = 0;
+		openUntil = 0;
+	}
+
+	/**
+	 * Record a failed request, opening the breaker when the threshold is reached or the trial request failed
+	 */
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			open();
+		}
+	}
+
+	/**
+	 * Open the breaker for base * 2^n milliseconds (capped), using equal jitter so that breakers of
+	 * several adapter instances do not retry in lockstep
+	 */
+	private void open() {
+		long backoff = baseBackoffMillis << Math.min(consecutiveOpens, 20);
+		if (backoff <= 0 || backoff > maxBackoffMillis) {
+			backoff = maxBackoffMillis;
+		}
+		long half = backoff / 2;
+		openUntil = clock.getAsLong() + half + ThreadLocalRandom.current().nextLong(half + 1);
+		consecutiveOpens++;
+		state = State.OPEN;
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #rejectedRequests}
+	 *
+	 * @return value of {@link #rejectedRequests}
+	 */
+	public synchronized long getRejectedRequests() {
+		return rejectedRequests;
+	}
+
+	/**
+	 * Retrieves the remaining backoff of an open breaker
+	 *
+	 * @return milliseconds until a trial request is admitted, 0 if the breaker is not open
+	 */
+	public synchronized long getRemainingBackoffMillis() {
+		return state == State.OPEN ? Math.max(0, openUntil - clock.getAsLong()) : 0;
+	}
+}
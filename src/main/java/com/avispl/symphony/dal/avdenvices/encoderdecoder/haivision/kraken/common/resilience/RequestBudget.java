@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Request budget of a device host, shared by every adapter instance of the JVM talking to that host
+ * through the resources of the host.
+ * Requests are admitted by a token bucket (requests per second, with a burst of one second worth of tokens)
+ * and a limit on requests in flight. Waiting requests are admitted by priority, then in arrival order; a waiting
+ * request gains one priority level per aging interval waited, so a steady flow of high priority requests does not
+ * starve the low priority ones. A request waits at most until the deadline of its caller.
+ * A non-positive rate or concurrency disables the corresponding limit.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class RequestBudget {
+	/**
+	 * Time waited for a request to gain one priority level
+	 */
+	private static final long AGING_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final List<Waiter> waiters = new ArrayList<>();
+	private final long agingNanos;
+	private double permitsPerSecond;
+	private int maxConcurrent;
+	private double tokens;
+	private long refilledAt = System.nanoTime();
+	private int inFlight;
+	private long sequence;
+
+	/**
+	 * Create an instance of RequestBudget
+	 *
+	 * @param permitsPerSecond requests per second
+	 * @param maxConcurrent requests in flight
+	 */
+	public RequestBudget(double permitsPerSecond, int maxConcurrent) {
+		this(permitsPerSecond, maxConcurrent, AGING_NANOS);
+	}
+
+	/**
+	 * Create an instance of RequestBudget
+	 *
+	 * @param permitsPerSecond requests per second
+	 * @param maxConcurrent requests in flight
+	 * @param agingNanos time waited for a request to gain one priority level
+	 */
+	RequestBudget(double permitsPerSecond, int maxConcurrent, long agingNanos) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.maxConcurrent = maxConcurrent;
+		this.tokens = Math.max(1, permitsPerSecond);
+		this.agingNanos = Math.max(1, agingNanos);
+	}
+
+	/**
+	 * Update the limits
+	 *
+	 * @param permitsPerSecond requests per second
+	 * @param maxConcurrent requests in flight
+	 */
+	public void setLimits(double permitsPerSecond, int maxConcurrent) {
+		lock.lock();
+		try {
+			if (this.permitsPerSecond != permitsPerSecond || this.maxConcurrent != maxConcurrent) {
+				refill(System.nanoTime());
+				this.permitsPerSecond = permitsPerSecond;
+				this.maxConcurrent = maxConcurrent;
+				changed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until a request may be sent. Every successful call must be paired with {@link #release()}.
+	 *
+	 * @param priority priority of the request
+	 * @param timeout maximum time to wait
+	 * @param unit unit of the timeout
+	 * @return time waited in nanoseconds
+	 * @throws InterruptedException if interrupted while waiting, no permit is held then
+	 * @throws TimeoutException if the request was not admitted within the timeout, no permit is held then
+	 */
+	public long acquire(RequestPriority priority, long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+		long start = System.nanoTime();
+		long deadline = start + unit.toNanos(Math.max(0, timeout));
+		lock.lock();
+		try {
+			Waiter waiter = new Waiter(priority, sequence++, start);
+			waiters.add(waiter);
+			try {
+				boolean wasHead = false;
+				while (true) {
+					long now = System.nanoTime();
+					refill(now);
+					boolean head = head(now) == waiter;
+					if (head && !isConcurrencyExhausted() && (permitsPerSecond <= 0 || tokens >= 1)) {
+						if (permitsPerSecond > 0) {
+							tokens -= 1;
+						}
+						inFlight++;
+						return now - start;
+					}
+					long remaining = deadline - now;
+					if (remaining <= 0) {
+						throw new TimeoutException(String.format("No request budget within %s ms", unit.toMillis(timeout)));
+					}
+					if (wasHead && !head) {
+						// overtaken by an aged request, which may be waiting for a signal
+						changed.signalAll();
+					}
+					wasHead = head;
+					if (head && !isConcurrencyExhausted()) {
+						// head of the queue, only short of a token
+						long nanosToToken = (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+						changed.awaitNanos(Math.min(remaining, Math.max(1, nanosToToken)));
+					} else {
+						// waiting requests age, the head of the queue is checked again at least once per aging interval
+						changed.awaitNanos(Math.min(remaining, agingNanos));
+					}
+				}
+			} finally {
+				waiters.remove(waiter);
+				changed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Give back the concurrency slot of a request acquired by {@link #acquire(RequestPriority, long, TimeUnit)}
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			if (inFlight > 0) {
+				inFlight--;
+			}
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean isConcurrencyExhausted() {
+		return maxConcurrent > 0 && inFlight >= maxConcurrent;
+	}
+
+	private void refill(long now) {
+		if (permitsPerSecond > 0) {
+			double elapsedSeconds = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+			tokens = Math.min(Math.max(1, permitsPerSecond), tokens + elapsedSeconds * permitsPerSecond);
+		}
+		refilledAt = now;
+	}
+
+	/**
+	 * Waiting request admitted next: the highest aged priority, then the earliest arrival
+	 *
+	 * @param now current time in nanoseconds
+	 * @return next request to admit
+	 */
+	private Waiter head(long now) {
+		Waiter head = null;
+		int headRank = 0;
+		for (Waiter waiter : waiters) {
+			int rank = waiter.rank(now, agingNanos);
+			if (head == null || rank < headRank || rank == headRank && waiter.sequence < head.sequence) {
+				head = waiter;
+				headRank = rank;
+			}
+		}
+		return head;
+	}
+
+	/**
+	 * Request waiting for the budget
+	 */
+	private static final class Waiter {
+		private final RequestPriority priority;
+		private final long sequence;
+		private final long since;
+
+		Waiter(RequestPriority priority, long sequence, long since) {
+			this.priority = priority;
+			this.sequence = sequence;
+			this.since = since;
+		}
+
+		/**
+		 * Priority level after aging, 0 being the highest
+		 */
+		int rank(long now, long agingNanos) {
+			return (int) Math.max(0, priority.ordinal() - (now - since) / agingNanos);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+/**
+ * Priorities of device requests waiting for the {@link RequestBudget}, highest first
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public enum RequestPriority {
+	/**
+	 * Stream list and status, system health
+	 */
+	HIGH,
+	/**
+	 * Per-stream lookups of inputs, outputs and transcoders
+	 */
+	NORMAL,
+	/**
+	 * Slowly changing data such as license, metadata, network and services
+	 */
+	LOW
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * Thrown instead of sending a request the adapter already knows cannot succeed: the circuit breaker of the
+ * endpoint is open, the firmware does not expose the endpoint or the request budget of the host did not admit
+ * the request before the deadline of its caller. The section issuing the request fails,
+ * so its last good values are published as stale rather than replaced by nothing.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class RequestSkippedException extends ResourceNotReachableException {
+	private final String command;
+
+	/**
+	 * Create an instance of RequestSkippedException
+	 *
+	 * @param command command (url template) of the skipped endpoint
+	 * @param message reason the request was skipped
+	 */
+	public RequestSkippedException(String command, String message) {
+		super(message);
+		this.command = command;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+}
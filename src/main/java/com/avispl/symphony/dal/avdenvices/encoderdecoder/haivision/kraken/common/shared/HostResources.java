@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionConstant;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability.DeviceCapabilities;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestBudget;
+
+/**
+ * Resources shared by every adapter instance of the JVM talking to the same device host: its request budget and the
+ * endpoint capabilities of its firmware.
+ * Instances {@link SharedResources#acquireHost(String)} them on init and {@link SharedResources#releaseHost(HostResources)}
+ * them on destroy; they are dropped when the last instance of the host releases them.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class HostResources {
+	private final String host;
+	private RequestBudget requestBudget;
+	private DeviceCapabilities capabilities;
+
+	/**
+	 * Number of instances holding the resources, guarded by the host table of {@link SharedResources}
+	 */
+	int references;
+
+	HostResources(String host) {
+		this.host = host;
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieve the request budget of the host, creating it on first use. The latest limits win when adapter
+	 * instances of the same host are configured differently.
+	 *
+	 * @param permitsPerSecond requests per second
+	 * @param maxConcurrent requests in flight
+	 * @return request budget of the host
+	 */
+	public synchronized RequestBudget getRequestBudget(double permitsPerSecond, int maxConcurrent) {
+		if (requestBudget == null) {
+			requestBudget = new RequestBudget(permitsPerSecond, maxConcurrent);
+		} else {
+			requestBudget.setLimits(permitsPerSecond, maxConcurrent);
+		}
+		return requestBudget;
+	}
+
+	/**
+	 * Retrieve the capabilities of the firmware of the host, creating them on first use. Capabilities of a
+	 * previous version of the device are dropped.
+	 *
+	 * @param version firmware version reported by the device
+	 * @return capabilities of the device under that version
+	 */
+	public synchronized DeviceCapabilities getCapabilities(String version) {
+		if (capabilities == null || !capabilities.getVersion().equals(version)) {
+			capabilities = new DeviceCapabilities(version, HaivisionConstant.UNSUPPORTED_ENDPOINT_REPROBE_INTERVAL);
+		}
+		return capabilities;
+	}
+}
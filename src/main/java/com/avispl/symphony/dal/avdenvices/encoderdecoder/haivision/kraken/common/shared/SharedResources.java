@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared;
+
+import java.io.IOException;
+import java.net.ProxySelector;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.ssl.SSLContexts;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent.ConcurrencyLimitedExecutor;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent.DeviceExecutors;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Resources shared by every adapter instance of the JVM: the JSON parser, the executor running device I/O and
+ * the HTTP connection pools. Instances {@link #acquire()} the resources on init and {@link #release(SharedResources)}
+ * them on destroy; the executor and the pools are closed when the last instance releases them.
+ * Connection pools are partitioned by route, so every device host keeps its own limit of connections, and by
+ * certificate handling, so an instance trusting every certificate never reuses a connection of one that does not.
+ * Cookies are not managed by the shared clients, sessions are carried by the adapter's own headers.
+ * Resources of a device host, such as its request budget, are reference counted per host, see {@link HostResources}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class SharedResources {
+	private static final Log logger = LogFactory.getLog(SharedResources.class);
+
+	private static final int MAX_CONNECTIONS_PER_ROUTE = 16;
+	private static final int MAX_CONNECTIONS_TOTAL = 256;
+	private static final long CONNECTION_MAX_IDLE_SECONDS = 30;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final ObjectReader JSON_READER = OBJECT_MAPPER.readerFor(JsonNode.class);
+	private static final ObjectWriter JSON_WRITER = OBJECT_MAPPER.writer();
+	private static final MappingJackson2HttpMessageConverter JSON_CONVERTER = new MappingJackson2HttpMessageConverter(OBJECT_MAPPER);
+
+	private static SharedResources instance;
+	private static int references;
+
+	private final ExecutorService executor = DeviceExecutors.newSharedExecutor("HaivisionKraken-io");
+	private final Map<String, HostResources> hosts = new HashMap<>();
+	private CloseableHttpClient verifyingClient;
+	private CloseableHttpClient trustingClient;
+
+	private SharedResources() {
+	}
+
+	/**
+	 * Acquire the shared resources, creating them for the first instance
+	 *
+	 * @return shared resources, to be released with {@link #release(SharedResources)}
+	 */
+	public static synchronized SharedResources acquire() {
+		if (instance == null) {
+			instance = new SharedResources();
+		}
+		references++;
+		return instance;
+	}
+
+	/**
+	 * Release shared resources acquired by {@link #acquire()}, closing them with the last reference
+	 *
+	 * @param resources resources to release, ignored when null or already closed
+	 */
+	public static synchronized void release(SharedResources resources) {
+		if (resources == null || resources != instance) {
+			return;
+		}
+		if (--references == 0) {
+			instance = null;
+			resources.close();
+		}
+	}
+
+	/**
+	 * Retrieves the JSON reader shared by every instance, thread-safe and reading {@link JsonNode} trees
+	 *
+	 * @return shared JSON reader
+	 */
+	public static ObjectReader jsonReader() {
+		return JSON_READER;
+	}
+
+	/**
+	 * Retrieves the JSON writer shared by every instance, thread-safe
+	 *
+	 * @return shared JSON writer
+	 */
+	public static ObjectWriter jsonWriter() {
+		return JSON_WRITER;
+	}
+
+	/**
+	 * Retrieves the JSON message converter shared by every instance
+	 *
+	 * @return shared JSON message converter
+	 */
+	public static MappingJackson2HttpMessageConverter jsonConverter() {
+		return JSON_CONVERTER;
+	}
+
+	/**
+	 * Create an executor view running at most {@code maxConcurrency} tasks at the same time on the shared executor.
+	 * Shutting the view down does not affect the shared executor.
+	 *
+	 * @param maxConcurrency maximum number of tasks running at the same time
+	 * @return new executor, to be shut down by the caller
+	 */
+	public ExecutorService newExecutor(int maxConcurrency) {
+		return new ConcurrencyLimitedExecutor(executor, maxConcurrency);
+	}
+
+	/**
+	 * Acquire the resources of a device host, creating them for the first instance talking to it
+	 *
+	 * @param host device host
+	 * @return resources of the host, to be released with {@link #releaseHost(HostResources)}
+	 */
+	public HostResources acquireHost(String host) {
+		synchronized (hosts) {
+			HostResources resources = hosts.computeIfAbsent(host, HostResources::new);
+			resources.references++;
+			return resources;
+		}
+	}
+
+	/**
+	 * Release the resources of a device host acquired by {@link #acquireHost(String)}, dropping them with the last reference
+	 *
+	 * @param resources resources to release, ignored when null
+	 */
+	public void releaseHost(HostResources resources) {
+		if (resources == null) {
+			return;
+		}
+		synchronized (hosts) {
+			if (--resources.references == 0) {
+				hosts.remove(resources.getHost(), resources);
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the shared HTTP client
+	 *
+	 * @param trustAllCertificates true to accept any certificate and host name, as the communicator's own client does
+	 * @return shared HTTP client, never to be closed by the caller
+	 * @throws Exception if the SSL context cannot be created
+	 */
+	public synchronized CloseableHttpClient getHttpClient(boolean trustAllCertificates) throws Exception {
+		if (trustAllCertificates) {
+			if (trustingClient == null) {
+				trustingClient = createHttpClient(true);
+			}
+			return trustingClient;
+		}
+		if (verifyingClient == null) {
+			verifyingClient = createHttpClient(false);
+		}
+		return verifyingClient;
+	}
+
+	private static CloseableHttpClient createHttpClient(boolean trustAllCertificates) throws Exception {
+		SSLConnectionSocketFactory sslSocketFactory;
+		if (trustAllCertificates) {
+			SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(null, (chain, authType) -> true).build();
+			sslSocketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+		} else {
+			sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+		}
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", sslSocketFactory)
+				.build();
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+		connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+		connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+				.setRedirectStrategy(new LaxRedirectStrategy())
+				.disableCookieManagement()
+				.evictExpiredConnections()
+				.evictIdleConnections(CONNECTION_MAX_IDLE_SECONDS, TimeUnit.SECONDS)
+				.build();
+	}
+
+	/**
+	 * Close the executor and the HTTP clients; every instance has already shut its executor views down
+	 */
+	private void close() {
+		executor.shutdownNow();
+		synchronized (this) {
+			closeQuietly(verifyingClient);
+			closeQuietly(trustingClient);
+			verifyingClient = null;
+			trustingClient = null;
+		}
+	}
+
+	private static void closeQuietly(CloseableHttpClient client) {
+		if (client == null) {
+			return;
+		}
+		try {
+			client.close();
+		} catch (IOException e) {
+			logger.warn("Unable to close the shared HTTP client", e);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer keeping the most recent elements; the oldest element is overwritten once
+ * the buffer is full. Writers claim a slot with a single atomic increment, readers never block writers.
+ *
+ * @param <T> type of the elements
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class EventRingBuffer<T> {
+	private final AtomicReferenceArray<T> slots;
+	private final AtomicLong written = new AtomicLong();
+
+	/**
+	 * Create an instance of EventRingBuffer
+	 *
+	 * @param capacity maximum number of elements kept
+	 */
+	public EventRingBuffer(int capacity) {
+		this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+	}
+
+	/**
+	 * Append an element, overwriting the oldest one if the buffer is full
+	 *
+	 * @param element element to append
+	 */
+	public void add(T element) {
+		long sequence = written.getAndIncrement();
+		slots.set((int) (sequence % slots.length()), element);
+	}
+
+	/**
+	 * Retrieve the most recent elements, newest first.
+	 * An element being written concurrently may be missing from the result.
+	 *
+	 * @param limit maximum number of elements returned
+	 * @return recent elements
+	 */
+	public List<T> recent(int limit) {
+		long end = written.get();
+		int count = (int) Math.min(Math.min(limit, slots.length()), end);
+		List<T> result = new ArrayList<>(Math.max(0, count));
+		for (long sequence = end - 1; sequence >= end - count; sequence--) {
+			T element = slots.get((int) (sequence % slots.length()));
+			if (element != null) {
+				result.add(element);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the number of elements ever appended
+	 *
+	 * @return number of appended elements
+	 */
+	public long getWritten() {
+		return written.get();
+	}
+
+	/**
+	 * Drop every element
+	 */
+	public void clear() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.set(i, null);
+		}
+		written.set(0);
+	}
+}
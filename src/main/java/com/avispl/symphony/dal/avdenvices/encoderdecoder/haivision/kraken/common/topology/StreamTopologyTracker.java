@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.TopologyEvent;
+
+/**
+ * Derives stream topology events by diffing the UUID keyed stream set of consecutive polls.
+ * The first set only sets the baseline. Events are kept in a {@link EventRingBuffer}, counts per type
+ * grow for the lifetime of the tracker.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class StreamTopologyTracker {
+
+	/**
+	 * Topology relevant state of a single stream
+	 */
+	public static final class StreamState {
+		private final String name;
+		private final String wiring;
+
+		/**
+		 * Create an instance of StreamState
+		 *
+		 * @param name name of the stream
+		 * @param wiring input, passthru, transcoder and outputs of the stream, compared as a whole
+		 */
+		public StreamState(String name, String wiring) {
+			this.name = name;
+			this.wiring = wiring;
+		}
+	}
+
+	private final EventRingBuffer<TopologyEvent> events;
+	private final Map<TopologyEventType, AtomicLong> counts = new EnumMap<>(TopologyEventType.class);
+	private volatile Map<String, StreamState> previous;
+
+	/**
+	 * Create an instance of StreamTopologyTracker
+	 *
+	 * @param capacity number of events kept
+	 */
+	public StreamTopologyTracker(int capacity) {
+		this.events = new EventRingBuffer<>(capacity);
+		for (TopologyEventType type : TopologyEventType.values()) {
+			counts.put(type, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Compare the streams of the latest poll with the previous ones and record the differences
+	 *
+	 * @param current streams of the latest poll keyed by UUID
+	 */
+	public void update(Map<String, StreamState> current) {
+		Map<String, StreamState> last = previous;
+		previous = current;
+		if (last == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		for (Map.Entry<String, StreamState> entry : current.entrySet()) {
+			StreamState state = entry.getValue();
+			StreamState before = last.get(entry.getKey());
+			if (before == null) {
+				record(new TopologyEvent(TopologyEventType.CREATED, entry.getKey(), state.name, null, now));
+				continue;
+			}
+			if (!Objects.equals(before.name, state.name)) {
+				record(new TopologyEvent(TopologyEventType.RENAMED, entry.getKey(), state.name, "from " + before.name, now));
+			}
+			if (!Objects.equals(before.wiring, state.wiring)) {
+				record(new TopologyEvent(TopologyEventType.REWIRED, entry.getKey(), state.name, null, now));
+			}
+		}
+		for (Map.Entry<String, StreamState> entry : last.entrySet()) {
+			if (!current.containsKey(entry.getKey())) {
+				record(new TopologyEvent(TopologyEventType.DELETED, entry.getKey(), entry.getValue().name, null, now));
+			}
+		}
+	}
+
+	private void record(TopologyEvent event) {
+		events.add(event);
+		counts.get(event.getType()).incrementAndGet();
+	}
+
+	/**
+	 * Retrieve the most recent events, newest first
+	 *
+	 * @param limit maximum number of events
+	 * @return recent events
+	 */
+	public List<TopologyEvent> recent(int limit) {
+		return events.recent(limit);
+	}
+
+	/**
+	 * Retrieve the number of events of a type
+	 *
+	 * @param type kind of change
+	 * @return number of events recorded
+	 */
+	public long getCount(TopologyEventType type) {
+		return counts.get(type).get();
+	}
+
+	/**
+	 * Forget the baseline, the events and the counts
+	 */
+	public void reset() {
+		previous = null;
+		events.clear();
+		for (AtomicLong count : counts.values()) {
+			count.set(0);
+		}
+	}
+}
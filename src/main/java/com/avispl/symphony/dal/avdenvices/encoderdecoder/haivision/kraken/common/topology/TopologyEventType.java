@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology;
+
+/**
+ * Kinds of stream topology changes detected between two polls
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public enum TopologyEventType {
+	CREATED("Created"), DELETED("Deleted"), RENAMED("Renamed"), REWIRED("Rewired");
+
+	private final String name;
+
+	TopologyEventType(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
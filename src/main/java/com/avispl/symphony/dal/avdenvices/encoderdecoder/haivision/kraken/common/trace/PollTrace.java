@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spans of a single poll, rooted at a span covering the whole poll. At most {@code maxSpans} spans are kept,
+ * the following ones are still timed by their callers but only counted.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class PollTrace {
+	private final String id;
+	private final long startedAt = System.currentTimeMillis();
+	private final int maxSpans;
+	private final List<TraceSpan> spans = new ArrayList<>();
+	private final TraceSpan root;
+	private int nextId;
+	private int dropped;
+
+	/**
+	 * Create an instance of PollTrace
+	 *
+	 * @param id id of the trace
+	 * @param rootName name of the root span
+	 * @param maxSpans maximum number of spans kept, the root included
+	 */
+	public PollTrace(String id, String rootName, int maxSpans) {
+		this.id = id;
+		this.maxSpans = Math.max(1, maxSpans);
+		this.root = new TraceSpan(this, null, nextId++, rootName);
+		spans.add(root);
+	}
+
+	/**
+	 * Start a span
+	 *
+	 * @param name name of the span
+	 * @param parent parent span, belonging to this trace
+	 * @return started span
+	 */
+	synchronized TraceSpan startSpan(String name, TraceSpan parent) {
+		TraceSpan span = new TraceSpan(this, parent, nextId++, name);
+		if (spans.size() < maxSpans) {
+			spans.add(span);
+		} else {
+			dropped++;
+		}
+		return span;
+	}
+
+	/**
+	 * Retrieves {@link #id}
+	 *
+	 * @return value of {@link #id}
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves {@link #startedAt}
+	 *
+	 * @return value of {@link #startedAt}
+	 */
+	public long getStartedAt() {
+		return startedAt;
+	}
+
+	/**
+	 * Retrieves {@link #root}
+	 *
+	 * @return value of {@link #root}
+	 */
+	public TraceSpan getRoot() {
+		return root;
+	}
+
+	/**
+	 * Retrieves the duration of the poll
+	 *
+	 * @return duration in milliseconds
+	 */
+	public long getDurationMillis() {
+		return root.getDurationMillis();
+	}
+
+	/**
+	 * Retrieves the direct children of the root span, in start order
+	 *
+	 * @return top level spans
+	 */
+	public List<TraceSpan> getTopLevelSpans() {
+		return children().getOrDefault(root, new ArrayList<>());
+	}
+
+	/**
+	 * Retrieves the critical path of the poll: from the root, the slowest child of every span
+	 *
+	 * @return spans of the path, the root first
+	 */
+	public List<TraceSpan> getSlowestPath() {
+		Map<TraceSpan, List<TraceSpan>> children = children();
+		List<TraceSpan> path = new ArrayList<>();
+		TraceSpan span = root;
+		while (span != null) {
+			path.add(span);
+			TraceSpan slowest = null;
+			for (TraceSpan child : children.getOrDefault(span, new ArrayList<>())) {
+				if (slowest == null || child.getDurationMillis() > slowest.getDurationMillis()) {
+					slowest = child;
+				}
+			}
+			span = slowest;
+		}
+		return path;
+	}
+
+	/**
+	 * Render every kept span as an indented tree, with its offset from the start of the poll and its duration
+	 *
+	 * @return multi-line rendering of the trace
+	 */
+	public String dump() {
+		Map<TraceSpan, List<TraceSpan>> children = children();
+		StringBuilder builder = new StringBuilder();
+		builder.append("Trace ").append(id).append(' ').append(getDurationMillis()).append("ms");
+		synchronized (this) {
+			if (dropped > 0) {
+				builder.append(" (").append(dropped).append(" spans not kept)");
+			}
+		}
+		dump(builder, children, root, 1);
+		return builder.toString();
+	}
+
+	private void dump(StringBuilder builder, Map<TraceSpan, List<TraceSpan>> children, TraceSpan span, int depth) {
+		for (TraceSpan child : children.getOrDefault(span, new ArrayList<>())) {
+			builder.append('\n');
+			for (int i = 0; i < depth; i++) {
+				builder.append("  ");
+			}
+			builder.append('+').append(child.getOffsetMillis()).append("ms ").append(child);
+			if (!child.isEnded()) {
+				builder.append(" (running)");
+			}
+			dump(builder, children, child, depth + 1);
+		}
+	}
+
+	/**
+	 * Group the kept spans by parent, in start order
+	 */
+	private synchronized Map<TraceSpan, List<TraceSpan>> children() {
+		Map<TraceSpan, List<TraceSpan>> children = new HashMap<>();
+		for (TraceSpan span : spans) {
+			if (span.getParent() != null) {
+				children.computeIfAbsent(span.getParent(), k -> new ArrayList<>()).add(span);
+			}
+		}
+		return children;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology.EventRingBuffer;
+
+/**
+ * In-process tracing of the polls. The span a thread works for is kept per thread: spans started by a thread are
+ * children of it, and tasks handed to executors carry it along through {@link #wrap(Callable)}.
+ * Threads outside a poll have no current span, their spans are not recorded.
+ * The traces of the last polls are kept in a ring buffer.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class PollTracer {
+	private static final String ROOT_SPAN = "Poll";
+
+	private final ThreadLocal<TraceSpan> current = new ThreadLocal<>();
+	private final EventRingBuffer<PollTrace> traces;
+	private final int capacity;
+	private final int maxSpans;
+
+	/**
+	 * Create an instance of PollTracer
+	 *
+	 * @param capacity number of polls whose trace is kept
+	 * @param maxSpans maximum number of spans kept per trace
+	 */
+	public PollTracer(int capacity, int maxSpans) {
+		this.capacity = Math.max(1, capacity);
+		this.maxSpans = maxSpans;
+		this.traces = new EventRingBuffer<>(this.capacity);
+	}
+
+	/**
+	 * Start the trace of a poll run by the calling thread
+	 *
+	 * @return new trace, to be passed to {@link #finish(PollTrace)}
+	 */
+	public PollTrace begin() {
+		PollTrace trace = new PollTrace(Long.toHexString(ThreadLocalRandom.current().nextLong()), ROOT_SPAN, maxSpans);
+		current.set(trace.getRoot());
+		return trace;
+	}
+
+	/**
+	 * End the trace of a poll and keep it
+	 *
+	 * @param trace trace started by {@link #begin()} on the calling thread
+	 */
+	public void finish(PollTrace trace) {
+		trace.getRoot().end();
+		current.remove();
+		traces.add(trace);
+	}
+
+	/**
+	 * Start a span, child of the current span of the calling thread, which it becomes
+	 *
+	 * @param name name of the span
+	 * @return started span, to be passed to {@link #end(TraceSpan)}; null outside a poll
+	 */
+	public TraceSpan start(String name) {
+		TraceSpan parent = current.get();
+		if (parent == null) {
+			return null;
+		}
+		TraceSpan span = parent.getTrace().startSpan(name, parent);
+		current.set(span);
+		return span;
+	}
+
+	/**
+	 * End a span started by {@link #start(String)}, its parent becomes the current span again
+	 *
+	 * @param span span to end, may be null
+	 */
+	public void end(TraceSpan span) {
+		if (span == null) {
+			return;
+		}
+		span.end();
+		current.set(span.getParent());
+	}
+
+	/**
+	 * Bind a task to the current span of the calling thread, so the spans it starts on another thread are
+	 * children of that span
+	 *
+	 * @param task task to bind
+	 * @param <T> result type of the task
+	 * @return bound task, the task itself outside a poll
+	 */
+	public <T> Callable<T> wrap(Callable<T> task) {
+		TraceSpan parent = current.get();
+		if (parent == null) {
+			return task;
+		}
+		return () -> {
+			TraceSpan previous = current.get();
+			current.set(parent);
+			try {
+				return task.call();
+			} finally {
+				if (previous == null) {
+					current.remove();
+				} else {
+					current.set(previous);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Retrieve the slowest of the kept traces
+	 *
+	 * @return slowest trace, null if no poll was traced
+	 */
+	public PollTrace getSlowest() {
+		PollTrace slowest = null;
+		for (PollTrace trace : traces.recent(capacity)) {
+			if (slowest == null || trace.getDurationMillis() > slowest.getDurationMillis()) {
+				slowest = trace;
+			}
+		}
+		return slowest;
+	}
+
+	/**
+	 * Drop every kept trace
+	 */
+	public void clear() {
+		traces.clear();
+	}
+}
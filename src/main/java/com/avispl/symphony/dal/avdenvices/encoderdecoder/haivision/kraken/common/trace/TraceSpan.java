@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timed step of a {@link PollTrace}, such as a section, a stream enrichment or a request
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class TraceSpan {
+	private final PollTrace trace;
+	private final TraceSpan parent;
+	private final int id;
+	private final String name;
+	private final long startNanos = System.nanoTime();
+	private volatile long durationNanos = -1;
+
+	TraceSpan(PollTrace trace, TraceSpan parent, int id, String name) {
+		this.trace = trace;
+		this.parent = parent;
+		this.id = id;
+		this.name = name;
+	}
+
+	/**
+	 * End the span; only the first call counts
+	 */
+	public void end() {
+		if (durationNanos < 0) {
+			durationNanos = System.nanoTime() - startNanos;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #trace}
+	 *
+	 * @return value of {@link #trace}
+	 */
+	public PollTrace getTrace() {
+		return trace;
+	}
+
+	/**
+	 * Retrieves {@link #parent}
+	 *
+	 * @return value of {@link #parent}, null for the root span of the trace
+	 */
+	public TraceSpan getParent() {
+		return parent;
+	}
+
+	/**
+	 * Retrieves {@link #id}
+	 *
+	 * @return value of {@link #id}
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the start of the span relative to the start of its trace
+	 *
+	 * @return offset in milliseconds
+	 */
+	public long getOffsetMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(startNanos - trace.getRoot().startNanos);
+	}
+
+	/**
+	 * Retrieves the duration of the span, the time elapsed so far if it is still running
+	 *
+	 * @return duration in milliseconds
+	 */
+	public long getDurationMillis() {
+		long duration = durationNanos;
+		return TimeUnit.NANOSECONDS.toMillis(duration >= 0 ? duration : System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Check whether the span has ended
+	 *
+	 * @return true once {@link #end()} was called
+	 */
+	public boolean isEnded() {
+		return durationNanos >= 0;
+	}
+
+	@Override
+	public String toString() {
+		return name + ' ' + getDurationMillis() + "ms";
+	}
+}
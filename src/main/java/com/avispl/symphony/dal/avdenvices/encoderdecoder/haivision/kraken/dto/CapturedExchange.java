@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A device request and its response as written to a capture, with credentials and session ids redacted.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class CapturedExchange {
+    private long timestamp;
+    private long durationNanos;
+    private String method;
+    private String uri;
+    private int status;
+    private Map<String, List<String>> requestHeaders;
+    private Map<String, List<String>> responseHeaders;
+    private String body;
+
+    /**
+     * Retrieves {@link #timestamp}
+     *
+     * @return value of {@link #timestamp}
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Sets {@link #timestamp} value
+     *
+     * @param timestamp new value of {@link #timestamp}
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Retrieves {@link #durationNanos}
+     *
+     * @return value of {@link #durationNanos}
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Sets {@link #durationNanos} value
+     *
+     * @param durationNanos new value of {@link #durationNanos}
+     */
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Retrieves {@link #method}
+     *
+     * @return value of {@link #method}
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Sets {@link #method} value
+     *
+     * @param method new value of {@link #method}
+     */
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    /**
+     * Retrieves {@link #uri}
+     *
+     * @return value of {@link #uri}
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Sets {@link #uri} value
+     *
+     * @param uri new value of {@link #uri}
+     */
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    /**
+     * Retrieves {@link #status}
+     *
+     * @return value of {@link #status}
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets {@link #status} value
+     *
+     * @param status new value of {@link #status}
+     */
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves {@link #requestHeaders}
+     *
+     * @return value of {@link #requestHeaders}
+     */
+    public Map<String, List<String>> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    /**
+     * Sets {@link #requestHeaders} value
+     *
+     * @param requestHeaders new value of {@link #requestHeaders}
+     */
+    public void setRequestHeaders(Map<String, List<String>> requestHeaders) {
+        this.requestHeaders = requestHeaders;
+    }
+
+    /**
+     * Retrieves {@link #responseHeaders}
+     *
+     * @return value of {@link #responseHeaders}
+     */
+    public Map<String, List<String>> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * Sets {@link #responseHeaders} value
+     *
+     * @param responseHeaders new value of {@link #responseHeaders}
+     */
+    public void setResponseHeaders(Map<String, List<String>> responseHeaders) {
+        this.responseHeaders = responseHeaders;
+    }
+
+    /**
+     * Retrieves {@link #body}
+     *
+     * @return value of {@link #body}
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Sets {@link #body} value
+     *
+     * @param body new value of {@link #body}
+     */
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto;
+
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.GenericStatistics;
+
+/**
+ * Last known state of the adapter as stored on disk between restarts.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class PersistedSnapshot {
+	private final long savedAt;
+	private final Map<String, String> statistics;
+	private final Map<String, SectionSnapshot> sections;
+	private final Map<String, String> cache;
+	private final Map<String, StreamEntry> streams;
+	private final GenericStatistics genericStatistics;
+
+	/**
+	 * Create an instance of PersistedSnapshot
+	 *
+	 * @param savedAt time in milliseconds the snapshot was written
+	 * @param statistics published extended statistics
+	 * @param sections last good values of every statistics section
+	 * @param cache raw device values keyed by property name
+	 * @param streams property blocks of the streams keyed by stream UUID
+	 * @param genericStatistics published generic statistics, only the CPU percentage and up time are stored
+	 */
+	public PersistedSnapshot(long savedAt, Map<String, String> statistics, Map<String, SectionSnapshot> sections, Map<String, String> cache,
+			Map<String, StreamEntry> streams, GenericStatistics genericStatistics) {
+		this.savedAt = savedAt;
+		this.statistics = statistics;
+		this.sections = sections;
+		this.cache = cache;
+		this.streams = streams;
+		this.genericStatistics = genericStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #savedAt}
+	 *
+	 * @return value of {@link #savedAt}
+	 */
+	public long getSavedAt() {
+		return savedAt;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #sections}
+	 *
+	 * @return value of {@link #sections}
+	 */
+	public Map<String, SectionSnapshot> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Retrieves {@link #cache}
+	 *
+	 * @return value of {@link #cache}
+	 */
+	public Map<String, String> getCache() {
+		return cache;
+	}
+
+	/**
+	 * Retrieves {@link #streams}
+	 *
+	 * @return value of {@link #streams}
+	 */
+	public Map<String, StreamEntry> getStreams() {
+		return streams;
+	}
+
+	/**
+	 * Retrieves {@link #genericStatistics}
+	 *
+	 * @return value of {@link #genericStatistics}
+	 */
+	public GenericStatistics getGenericStatistics() {
+		return genericStatistics;
+	}
+}
\ No newline at end of file
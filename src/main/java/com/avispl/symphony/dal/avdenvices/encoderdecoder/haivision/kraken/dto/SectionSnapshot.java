@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto;
+
+import java.util.Map;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.CompactStatisticsMap;
+
+/**
+ * Last good values of a statistics section together with the time they were collected.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class SectionSnapshot {
+	private final Map<String, String> values;
+	private final long timestamp;
+
+	/**
+	 * Create an instance of SectionSnapshot
+	 *
+	 * @param values properties of the section
+	 * @param timestamp time in milliseconds the values were collected
+	 */
+	public SectionSnapshot(Map<String, String> values, long timestamp) {
+		this.values = CompactStatisticsMap.copyOf(values);
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #values}
+	 *
+	 * @return value of {@link #values}
+	 */
+	public Map<String, String> getValues() {
+		return values;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Age of the snapshot
+	 *
+	 * @return seconds elapsed since the values were collected
+	 */
+	public long getAgeSeconds() {
+		return (System.currentTimeMillis() - timestamp) / 1000;
+	}
+}
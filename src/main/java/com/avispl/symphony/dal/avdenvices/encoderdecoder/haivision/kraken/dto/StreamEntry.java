@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto;
+
+import java.util.Map;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.CompactStatisticsMap;
+
+/**
+ * Property block of a stream together with the content hash of the stream_list entry it was built from,
+ * so an unchanged stream is published again without resolving its inputs, outputs and transcoder.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class StreamEntry {
+	private final long hash;
+	private final String group;
+	private final Map<String, String> properties;
+	private final boolean complete;
+
+	/**
+	 * Create an instance of StreamEntry
+	 *
+	 * @param hash content hash of the stream_list entry
+	 * @param group property group of the stream, without the stream prefix
+	 * @param properties properties of the stream
+	 * @param complete true if every lookup of the stream succeeded
+	 */
+	public StreamEntry(long hash, String group, Map<String, String> properties, boolean complete) {
+		this.hash = hash;
+		this.group = group;
+		this.properties = CompactStatisticsMap.copyOf(properties);
+		this.complete = complete;
+	}
+
+	/**
+	 * Retrieves {@link #hash}
+	 *
+	 * @return value of {@link #hash}
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * Retrieves {@link #group}
+	 *
+	 * @return value of {@link #group}
+	 */
+	public String getGroup() {
+		return group;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Retrieves {@link #complete}
+	 *
+	 * @return value of {@link #complete}
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Check whether this block can be published again for a stream_list entry
+	 *
+	 * @param hash content hash of the current stream_list entry
+	 * @param group current property group of the stream
+	 * @return true if the entry is unchanged and the block was completely resolved
+	 */
+	public boolean isReusableFor(long hash, String group) {
+		return complete && this.hash == hash && this.group.equals(group);
+	}
+}
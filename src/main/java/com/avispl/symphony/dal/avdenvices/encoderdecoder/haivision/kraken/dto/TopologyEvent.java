@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto;
+
+import java.time.Instant;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology.TopologyEventType;
+
+/**
+ * A stream topology change detected between two polls.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public class TopologyEvent {
+    private final TopologyEventType type;
+    private final String uuid;
+    private final String name;
+    private final String detail;
+    private final long timestamp;
+
+    /**
+     * Create an instance of TopologyEvent
+     *
+     * @param type kind of change
+     * @param uuid UUID of the stream
+     * @param name current name of the stream, the last known one for a deleted stream
+     * @param detail description of the change, e.g. the previous name, may be null
+     * @param timestamp time in milliseconds the change was detected
+     */
+    public TopologyEvent(TopologyEventType type, String uuid, String name, String detail, long timestamp) {
+        this.type = type;
+        this.uuid = uuid;
+        this.name = name;
+        this.detail = detail;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Retrieves {@link #type}
+     *
+     * @return value of {@link #type}
+     */
+    public TopologyEventType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves {@link #uuid}
+     *
+     * @return value of {@link #uuid}
+     */
+    public String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves {@link #detail}
+     *
+     * @return value of {@link #detail}
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * Retrieves {@link #timestamp}
+     *
+     * @return value of {@link #timestamp}
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return Instant.ofEpochMilli(timestamp) + " " + type.getName() + " " + name + " (" + uuid + ")" + (detail == null ? "" : " " + detail);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.jfr;
+
+/**
+ * Emits Java Flight Recorder events for polls, endpoint requests, authentication and cache accesses.
+ * This is the JDK 11+ implementation packaged under {@code META-INF/versions/11}. Events are only allocated
+ * when enabled in the running recording. Runtimes linked without the {@code jdk.jfr} module fall back to no-ops,
+ * the event classes are only touched through {@link JfrEvents} once the module is known to be present.
+ * A {@code begin*} method returns a token to hand to the matching {@code end*} method, null when nothing is recorded.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class AdapterEvents {
+	private static final boolean AVAILABLE = isJfrAvailable();
+
+	private AdapterEvents() {
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, AdapterEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Start a statistics poll
+	 *
+	 * @return token of the poll event
+	 */
+	public static Object beginPoll() {
+		return AVAILABLE ? JfrEvents.beginPoll() : null;
+	}
+
+	/**
+	 * End a statistics poll
+	 *
+	 * @param token token returned by {@link #beginPoll()}
+	 * @param propertyCount number of published properties
+	 * @param success false if the poll failed
+	 */
+	public static void endPoll(Object token, int propertyCount, boolean success) {
+		if (token != null) {
+			JfrEvents.endPoll(token, propertyCount, success);
+		}
+	}
+
+	/**
+	 * Start an endpoint request
+	 *
+	 * @param command command (url template) of the endpoint
+	 * @return token of the request event
+	 */
+	public static Object beginRequest(String command) {
+		return AVAILABLE ? JfrEvents.beginRequest(command) : null;
+	}
+
+	/**
+	 * End an endpoint request
+	 *
+	 * @param token token returned by {@link #beginRequest(String)}
+	 * @param status HTTP status, 0 if no response was received
+	 * @param bytes bytes received on the wire
+	 */
+	public static void endRequest(Object token, int status, long bytes) {
+		if (token != null) {
+			JfrEvents.endRequest(token, status, bytes);
+		}
+	}
+
+	/**
+	 * Start a login or logout
+	 *
+	 * @param action "Login" or "Logout"
+	 * @return token of the authentication event
+	 */
+	public static Object beginAuthentication(String action) {
+		return AVAILABLE ? JfrEvents.beginAuthentication(action) : null;
+	}
+
+	/**
+	 * End a login or logout
+	 *
+	 * @param token token returned by {@link #beginAuthentication(String)}
+	 * @param success false if the action failed
+	 */
+	public static void endAuthentication(Object token, boolean success) {
+		if (token != null) {
+			JfrEvents.endAuthentication(token, success);
+		}
+	}
+
+	/**
+	 * Record a cache lookup
+	 *
+	 * @param cache name of the cache
+	 * @param hit true if the value was found
+	 */
+	public static void cacheAccess(String cache, boolean hit) {
+		if (AVAILABLE) {
+			JfrEvents.cacheAccess(cache, hit);
+		}
+	}
+}
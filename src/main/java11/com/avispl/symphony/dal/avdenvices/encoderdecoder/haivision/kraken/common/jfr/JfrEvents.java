@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event types of the adapter and the code creating them, only loaded when {@code jdk.jfr} is present.
+ * Whether a type is enabled in the running recordings is checked on its registered {@link EventType} before
+ * any event is allocated.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+final class JfrEvents {
+	private static final String CATEGORY = "Haivision Kraken Adapter";
+
+	private static final EventType POLL = EventType.getEventType(PollEvent.class);
+	private static final EventType REQUEST = EventType.getEventType(RequestEvent.class);
+	private static final EventType AUTHENTICATION = EventType.getEventType(AuthenticationEvent.class);
+	private static final EventType CACHE_ACCESS = EventType.getEventType(CacheAccessEvent.class);
+
+	private JfrEvents() {
+	}
+
+	@Name("com.avispl.haivision.kraken.Poll")
+	@Label("Statistics Poll")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static final class PollEvent extends Event {
+		@Label("Property Count")
+		int propertyCount;
+
+		@Label("Success")
+		boolean success;
+	}
+
+	@Name("com.avispl.haivision.kraken.Request")
+	@Label("Endpoint Request")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static final class RequestEvent extends Event {
+		@Label("Command")
+		@Description("URL template of the endpoint")
+		String command;
+
+		@Label("Status")
+		int status;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+	}
+
+	@Name("com.avispl.haivision.kraken.Authentication")
+	@Label("Authentication")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static final class AuthenticationEvent extends Event {
+		@Label("Action")
+		String action;
+
+		@Label("Success")
+		boolean success;
+	}
+
+	@Name("com.avispl.haivision.kraken.CacheAccess")
+	@Label("Cache Access")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	static final class CacheAccessEvent extends Event {
+		@Label("Cache")
+		String cache;
+
+		@Label("Hit")
+		boolean hit;
+	}
+
+	static Object beginPoll() {
+		if (!POLL.isEnabled()) {
+			return null;
+		}
+		PollEvent event = new PollEvent();
+		event.begin();
+		return event;
+	}
+
+	static void endPoll(Object token, int propertyCount, boolean success) {
+		PollEvent event = (PollEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.propertyCount = propertyCount;
+			event.success = success;
+			event.commit();
+		}
+	}
+
+	static Object beginRequest(String command) {
+		if (!REQUEST.isEnabled()) {
+			return null;
+		}
+		RequestEvent event = new RequestEvent();
+		event.command = command;
+		event.begin();
+		return event;
+	}
+
+	static void endRequest(Object token, int status, long bytes) {
+		RequestEvent event = (RequestEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.status = status;
+			event.bytes = bytes;
+			event.commit();
+		}
+	}
+
+	static Object beginAuthentication(String action) {
+		if (!AUTHENTICATION.isEnabled()) {
+			return null;
+		}
+		AuthenticationEvent event = new AuthenticationEvent();
+		event.action = action;
+		event.begin();
+		return event;
+	}
+
+	static void endAuthentication(Object token, boolean success) {
+		AuthenticationEvent event = (AuthenticationEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.success = success;
+			event.commit();
+		}
+	}
+
+	static void cacheAccess(String cache, boolean hit) {
+		if (!CACHE_ACCESS.isEnabled()) {
+			return;
+		}
+		CacheAccessEvent event = new CacheAccessEvent();
+		event.cache = cache;
+		event.hit = hit;
+		event.commit();
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor used for device I/O: endpoint fetches, per-entity lookups and ping attempts.
+ * This is the JDK 21+ implementation packaged under {@code META-INF/versions/21}: every task runs on its own
+ * virtual thread, so a request blocked on HTTPS no longer pins a platform thread.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2024
+ * @since 1.0.1
+ */
+public final class DeviceExecutors {
+
+	private DeviceExecutors() {
+	}
+
+	/**
+	 * Create the executor shared by adapter instances. It does not limit concurrency: every instance runs its
+	 * tasks through a {@link ConcurrencyLimitedExecutor} view, which only hands over tasks it has a permit for.
+	 *
+	 * @param name prefix of the thread names
+	 * @return new executor, to be shut down by the caller
+	 */
+	public static ExecutorService newSharedExecutor(String name) {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+	}
+
+	/**
+	 * Check whether executors run their tasks on virtual threads
+	 *
+	 * @return true
+	 */
+	public static boolean isVirtual() {
+		return true;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionConstant;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability.DeviceCapabilities;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.HostResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Tag("Mock")
+public class CapabilitiesRefreshTest {
+	private static final String HOST = "127.0.0.1";
+
+	private HaivisionKrakenCommunicator communicator;
+	private SharedResources sharedResources;
+	private HostResources hostResources;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setHost(HOST);
+		communicator.setPropertyGroups("License");
+		sharedResources = SharedResources.acquire();
+		hostResources = sharedResources.acquireHost(HOST);
+		ReflectionTestUtils.setField(communicator, "hostResources", hostResources);
+	}
+
+	@AfterEach
+	void tearDown() {
+		sharedResources.releaseHost(hostResources);
+		SharedResources.release(sharedResources);
+	}
+
+	@Test
+	void testKnownVersionIsReusedWithoutSystemSection() throws Exception {
+		resolve("4.1.2");
+		DeviceCapabilities first = (DeviceCapabilities) ReflectionTestUtils.getField(communicator, "capabilities");
+		Assert.assertEquals("4.1.2", first.getVersion());
+		Assert.assertTrue(prefetched().isEmpty());
+
+		resolve("4.1.2");
+		Assert.assertTrue("the system info is not requested again", prefetched().containsKey(HaivisionCommand.GET_SYSTEM_INFO));
+
+		ReflectionTestUtils.setField(communicator, "capabilitiesCheckedAt", System.currentTimeMillis() - HaivisionConstant.CAPABILITIES_REFRESH_INTERVAL);
+		prefetched().clear();
+		resolve("4.2.0");
+		Assert.assertTrue(prefetched().isEmpty());
+		Assert.assertEquals("4.2.0", ((DeviceCapabilities) ReflectionTestUtils.getField(communicator, "capabilities")).getVersion());
+	}
+
+	@Test
+	void testSystemSectionReadsTheVersionEveryPoll() throws Exception {
+		communicator.setPropertyGroups("System, License");
+		resolve("4.1.2");
+		resolve("4.2.0");
+		Assert.assertEquals("4.2.0", ((DeviceCapabilities) ReflectionTestUtils.getField(communicator, "capabilities")).getVersion());
+		Assert.assertTrue("the system info is handed over to the System section", prefetched().containsKey(HaivisionCommand.GET_SYSTEM_INFO));
+	}
+
+	private void resolve(String version) throws Exception {
+		JsonNode systemInfo = SharedResources.jsonReader().readTree("{\"version\":\"" + version + "\"}");
+		prefetched().put(HaivisionCommand.GET_SYSTEM_INFO, systemInfo);
+		ReflectionTestUtils.invokeMethod(communicator, "resolveCapabilities");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, JsonNode> prefetched() {
+		return (Map<String, JsonNode>) ReflectionTestUtils.getField(communicator, "prefetched");
+	}
+}
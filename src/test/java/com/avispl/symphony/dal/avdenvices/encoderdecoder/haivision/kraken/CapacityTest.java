@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyCache;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.metric.childSystem.SystemGPU;
+
+@Tag("Mock")
+public class CapacityTest {
+	private HaivisionKrakenCommunicator communicator;
+	private Map<String, String> stats;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setPropertyGroups("License, GPU");
+		stats = new HashMap<>();
+		stats.put("License#MaxEncoders", "10");
+	}
+
+	@Test
+	void testBypassSessionsTakeNoEncoderSlot() {
+		stats.put("License#ActiveTranscoderSessions", "3");
+		stats.put("License#ActiveBypassSessions", "5");
+
+		populateCapacity();
+
+		Assert.assertEquals("3", stats.get("Capacity#UsedEncoderSlots"));
+		Assert.assertEquals("7", stats.get("Capacity#RemainingEncoderSlots"));
+		Assert.assertEquals("30", stats.get("Capacity#EncoderUtilization(%)"));
+		Assert.assertEquals("None", stats.get("Capacity#GPUMemoryUsed(%)"));
+		Assert.assertEquals("70", stats.get("Capacity#Headroom(%)"));
+	}
+
+	@Test
+	void testStreamCountFallbackIgnoresBypassStreams() {
+		stats.put("StreamsSummary#ModeTranscoder", "4");
+		stats.put("StreamsSummary#ModeBypass", "6");
+
+		populateCapacity();
+
+		Assert.assertEquals("4", stats.get("Capacity#UsedEncoderSlots"));
+		Assert.assertEquals("40", stats.get("Capacity#EncoderUtilization(%)"));
+	}
+
+	@Test
+	void testFullestGpuMemoryBoundsTheHeadroom() {
+		stats.put("License#ActiveTranscoderSessions", "2");
+		PropertyKeyCache gpuKeys = (PropertyKeyCache) ReflectionTestUtils.getField(communicator, "gpuKeys");
+		stats.put(gpuKeys.get("0").get(SystemGPU.SYS_GPU_MEM_USED), "35");
+		stats.put(gpuKeys.get("1").get(SystemGPU.SYS_GPU_MEM_USED), "62.4");
+
+		populateCapacity();
+
+		Assert.assertEquals("62", stats.get("Capacity#GPUMemoryUsed(%)"));
+		Assert.assertEquals("38", stats.get("Capacity#Headroom(%)"));
+		Assert.assertFalse(stats.containsKey("Capacity#GPULoad(%)"));
+	}
+
+	private void populateCapacity() {
+		ReflectionTestUtils.invokeMethod(communicator, "populateCapacityInfo", stats);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+
+@Tag("Mock")
+public class LifecycleTest {
+	private static final String HOST = "127.0.0.1";
+	private static final long DESTROY_TIMEOUT = 200;
+
+	private HaivisionKrakenCommunicator communicator;
+	private final CountDownLatch deviceAnswers = new CountDownLatch(1);
+	private final AtomicInteger requests = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setHost(HOST);
+		communicator.setDestroyTimeout(DESTROY_TIMEOUT);
+		SharedResources sharedResources = SharedResources.acquire();
+		ReflectionTestUtils.setField(communicator, "sharedResources", sharedResources);
+		ReflectionTestUtils.setField(communicator, "hostResources", sharedResources.acquireHost(HOST));
+		ReflectionTestUtils.setField(communicator, "baseRequestUrl", "https://" + HOST + "/");
+		// a device that does not answer: the request blocks like a socket read, regardless of interrupts
+		ReflectionTestUtils.setField(communicator, "restTemplate", new RestTemplate((uri, method) -> new MockClientHttpRequest(method, uri) {
+			@Override
+			protected ClientHttpResponse executeInternal() {
+				requests.incrementAndGet();
+				awaitUninterruptibly(deviceAnswers);
+				return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+			}
+		}));
+	}
+
+	@AfterEach
+	void tearDown() {
+		deviceAnswers.countDown();
+		if (ReflectionTestUtils.getField(communicator, "sharedResources") != null) {
+			communicator.destroy();
+		}
+	}
+
+	@Test
+	void testDestroyIsBoundedByTheDestroyTimeout() {
+		ReflectionTestUtils.setField(communicator, "authenticationCookie", "3f2a9c1e-7b4d-4e8f-a1b2-c3d4e5f60718");
+		ExecutorService pollExecutor = Executors.newSingleThreadExecutor();
+		pollExecutor.submit(() -> awaitUninterruptibly(deviceAnswers));
+		ReflectionTestUtils.setField(communicator, "pollExecutor", pollExecutor);
+
+		long start = System.nanoTime();
+		communicator.destroy();
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		Assert.assertEquals("the logout was sent", 1, requests.get());
+		Assert.assertTrue("destroy waits for the logout at most the destroy timeout: " + elapsed, elapsed < DESTROY_TIMEOUT + 1000);
+		Assert.assertTrue(pollExecutor.isShutdown());
+		Assert.assertNull(ReflectionTestUtils.getField(communicator, "sharedResources"));
+		Assert.assertFalse(communicator.isInitialized());
+	}
+
+	@Test
+	void testWarmUpStartsOnceInitialized() throws Exception {
+		ReflectionTestUtils.invokeMethod(communicator, "startWarmUp");
+		Future<?> warmUp = (Future<?>) ReflectionTestUtils.getField(communicator, "warmUp");
+		Thread.sleep(50);
+		Assert.assertFalse("the warm-up waits for init() to complete", warmUp.isDone());
+		Assert.assertEquals(0, requests.get());
+
+		// a poll already logged in, the warm-up has nothing left to do
+		ReflectionTestUtils.setField(communicator, "firstTimeInit", true);
+		ReflectionTestUtils.setField(communicator, "initialized", true);
+		warmUp.get(1, TimeUnit.SECONDS);
+		Assert.assertEquals(0, requests.get());
+	}
+
+	@Test
+	void testDestroyStopsAWaitingWarmUp() {
+		ReflectionTestUtils.invokeMethod(communicator, "startWarmUp");
+		Future<?> warmUp = (Future<?>) ReflectionTestUtils.getField(communicator, "warmUp");
+
+		communicator.destroy();
+
+		Assert.assertTrue(warmUp.isDone());
+		Assert.assertEquals(0, requests.get());
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		while (true) {
+			try {
+				latch.await();
+				return;
+			} catch (InterruptedException e) {
+				// like a blocking socket read, the interrupt does not end the wait
+			}
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyCache;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyTable;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Tag("Mock")
+public class NetworkInterfaceKeysTest {
+	private HaivisionKrakenCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setPropertyGroups("NetworkInterface");
+	}
+
+	@Test
+	void testEachInterfaceReportsItsOwnValues() throws Exception {
+		Map<String, String> stats = poll(nic("eth0", "10.0.0.1"), nic("eth1", "10.0.1.1"));
+
+		Assert.assertEquals("10.0.0.1", stats.get("NetworkInterface_Eth0#IPAddress"));
+		Assert.assertEquals("10.0.1.1", stats.get("NetworkInterface_Eth1#IPAddress"));
+		Assert.assertEquals("eth0", stats.get("NetworkInterface_Eth0#Name"));
+		Assert.assertEquals("eth1", stats.get("NetworkInterface_Eth1#Name"));
+	}
+
+	@Test
+	void testKeysAreReusedUntilTheInterfaceDisappears() throws Exception {
+		poll(nic("eth0", "10.0.0.1"), nic("eth1", "10.0.1.1"));
+		PropertyKeyTable eth0 = keys().get("eth0");
+		PropertyKeyTable eth1 = keys().get("eth1");
+
+		poll(nic("eth0", "10.0.0.2"), nic("eth1", "10.0.1.1"));
+		Assert.assertSame(eth0, keys().get("eth0"));
+		Assert.assertSame(eth1, keys().get("eth1"));
+
+		Map<String, String> stats = poll(nic("eth0", "10.0.0.2"));
+		Assert.assertEquals("10.0.0.2", stats.get("NetworkInterface_Eth0#IPAddress"));
+		Assert.assertFalse(stats.containsKey("NetworkInterface_Eth1#IPAddress"));
+		Assert.assertFalse("the table of a removed interface is dropped", keys().entities().contains("eth1"));
+	}
+
+	private static String nic(String name, String ipAddress) {
+		return "{\"name\":\"" + name + "\",\"addressing\":\"static\",\"gateway\":\"10.0.0.254\",\"ipAddress\":\"" + ipAddress
+				+ "\",\"macAddress\":\"00:00:00:00:00:01\",\"mtu\":\"1500\",\"peerDns\":\"true\",\"speed\":\"1000\",\"subnetMask\":\"255.255.255.0\"}";
+	}
+
+	private PropertyKeyCache keys() {
+		return (PropertyKeyCache) ReflectionTestUtils.getField(communicator, "networkInterfaceKeys");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, String> poll(String... nics) throws Exception {
+		JsonNode response = SharedResources.jsonReader().readTree("{\"nics\":[" + String.join(",", nics) + "]}");
+		((Map<String, JsonNode>) ReflectionTestUtils.getField(communicator, "prefetched")).put(HaivisionCommand.GET_NETWORK_INFO, response);
+		Map<String, String> stats = new HashMap<>();
+		ReflectionTestUtils.invokeMethod(communicator, "populateNetworkInfo", stats);
+		return stats;
+	}
+}
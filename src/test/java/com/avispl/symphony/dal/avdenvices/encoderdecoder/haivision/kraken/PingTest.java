@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.CircuitBreaker;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.HostResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+
+@Tag("Mock")
+public class PingTest {
+	private static final String HOST = "127.0.0.1";
+	private static final int PING_TIMEOUT = 500;
+
+	private HaivisionKrakenCommunicator communicator;
+	private SharedResources sharedResources;
+	private HostResources hostResources;
+	private ExecutorService pingExecutor;
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private volatile HttpStatus status = HttpStatus.OK;
+	private volatile long delay;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setHost(HOST);
+		communicator.setPingAttempts(3);
+		communicator.setPingTimeout(PING_TIMEOUT);
+		communicator.setRequestsPerSecond(0);
+		communicator.setMaxConcurrentRequests(0);
+		sharedResources = SharedResources.acquire();
+		hostResources = sharedResources.acquireHost(HOST);
+		pingExecutor = Executors.newFixedThreadPool(3);
+		ReflectionTestUtils.setField(communicator, "hostResources", hostResources);
+		ReflectionTestUtils.setField(communicator, "pingExecutor", pingExecutor);
+		ReflectionTestUtils.setField(communicator, "baseRequestUrl", "https://" + HOST + "/");
+		ReflectionTestUtils.setField(communicator, "restTemplate", new RestTemplate((uri, method) -> {
+			requests.incrementAndGet();
+			return new MockClientHttpRequest(method, uri) {
+				@Override
+				protected ClientHttpResponse executeInternal() {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(delay);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						inFlight.decrementAndGet();
+					}
+					MockClientHttpResponse response = new MockClientHttpResponse("{\"version\":\"4.1.2\"}".getBytes(StandardCharsets.UTF_8), status);
+					response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+					return response;
+				}
+			};
+		}));
+	}
+
+	@AfterEach
+	void tearDown() {
+		pingExecutor.shutdownNow();
+		sharedResources.releaseHost(hostResources);
+		SharedResources.release(sharedResources);
+	}
+
+	@Test
+	void testHttpPingRunsAttemptsConcurrently() {
+		delay = 100;
+		int result = httpPing();
+		Assert.assertTrue(String.valueOf(result), result >= 100 && result < PING_TIMEOUT);
+		Assert.assertEquals(3, requests.get());
+		Assert.assertEquals("the attempts are sent at once", 3, maxInFlight.get());
+	}
+
+	@Test
+	void testHttpPingRespectsTheRequestBudget() {
+		communicator.setMaxConcurrentRequests(1);
+		delay = 20;
+		int result = httpPing();
+		Assert.assertTrue(String.valueOf(result), result < PING_TIMEOUT);
+		Assert.assertEquals(3, requests.get());
+		Assert.assertEquals("one request in flight at a time", 1, maxInFlight.get());
+	}
+
+	@Test
+	void testHttpPingSharesOneDeadline() {
+		delay = PING_TIMEOUT * 4L;
+		long start = System.nanoTime();
+		int result = httpPing();
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assert.assertEquals(PING_TIMEOUT, result);
+		Assert.assertTrue("all attempts share the ping timeout: " + elapsed, elapsed < PING_TIMEOUT * 2L);
+	}
+
+	@Test
+	void testHttpPingFailsOnErrorStatus() {
+		status = HttpStatus.UNAUTHORIZED;
+		Assert.assertEquals(PING_TIMEOUT, httpPing());
+		Assert.assertTrue("the error status is a failure of the endpoint", breakers().get(HaivisionCommand.GET_SYSTEM_INFO).getConsecutiveFailures() >= 1);
+	}
+
+	@Test
+	void testHttpPingSkippedByOpenBreaker() {
+		CircuitBreaker breaker = new CircuitBreaker(1, 60000, 60000);
+		breaker.recordFailure();
+		breakers().put(HaivisionCommand.GET_SYSTEM_INFO, breaker);
+		Assert.assertEquals(PING_TIMEOUT, httpPing());
+		Assert.assertEquals(0, requests.get());
+	}
+
+	@Test
+	void testTcpPingOpensAttemptsConcurrently() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 10, InetAddress.getByName(HOST))) {
+			communicator.setPort(server.getLocalPort());
+			int result = ReflectionTestUtils.invokeMethod(communicator, "tcpPing");
+			Assert.assertTrue(String.valueOf(result), result >= 1 && result < PING_TIMEOUT);
+			// every attempt was queued by the listener before any of them was accepted
+			server.setSoTimeout(PING_TIMEOUT);
+			for (int i = 0; i < 3; i++) {
+				try (Socket ignored = server.accept()) {
+					// the attempt connected
+				}
+			}
+		}
+	}
+
+	private int httpPing() {
+		return ReflectionTestUtils.invokeMethod(communicator, "httpPing");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, CircuitBreaker> breakers() {
+		return (Map<String, CircuitBreaker>) ReflectionTestUtils.getField(communicator, "circuitBreakers");
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.CircuitBreaker;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.SectionSnapshot;
+
+@Tag("Mock")
+public class PollDeadlineTest {
+	private HaivisionKrakenCommunicator communicator;
+	private StalledExecutor executor;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setPropertyGroups("System, License");
+		communicator.setPollTimeout(20);
+		executor = new StalledExecutor();
+		ReflectionTestUtils.setField(communicator, "pollExecutor", executor);
+	}
+
+	@Test
+	void testDeadlinePublishesLastGoodValues() {
+		lastGoodSections().put("System", new SectionSnapshot(Collections.singletonMap("Version", "4.1.2"), System.currentTimeMillis() - 5000));
+
+		long start = System.nanoTime();
+		Map<String, String> stats = populateSections();
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		Assert.assertTrue("all sections share a single deadline", elapsed < 1000);
+		Assert.assertEquals("4.1.2", stats.get("Version"));
+		Assert.assertEquals("true", stats.get("PollStatus#SystemStale"));
+		Assert.assertEquals("5", stats.get("PollStatus#SystemAge(s)"));
+		Assert.assertEquals("true", stats.get("PollStatus#LicenseStale"));
+		Assert.assertEquals("None", stats.get("PollStatus#LicenseAge(s)"));
+	}
+
+	@Test
+	void testRunningSectionIsNotStartedAgain() {
+		populateSections();
+		Assert.assertEquals(2, executor.submitted.get());
+		populateSections();
+		Assert.assertEquals(2, executor.submitted.get());
+	}
+
+	@Test
+	void testCancelledSectionKeepsLastGoodValues() {
+		executor.cancel = true;
+		lastGoodSections().put("License", new SectionSnapshot(Collections.singletonMap("License#MaxEncoders", "10"), System.currentTimeMillis()));
+
+		Map<String, String> stats = populateSections();
+
+		Assert.assertEquals("10", stats.get("License#MaxEncoders"));
+		Assert.assertEquals("true", stats.get("PollStatus#LicenseStale"));
+		Assert.assertEquals("0", stats.get("PollStatus#LicenseAge(s)"));
+		Assert.assertEquals("true", stats.get("PollStatus#SystemStale"));
+		Assert.assertEquals(2, executor.submitted.get());
+		populateSections();
+		Assert.assertEquals("a cancelled section is started again", 4, executor.submitted.get());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testOpenBreakerKeepsLastGoodValues() {
+		communicator.setPropertyGroups("License");
+		CircuitBreaker breaker = new CircuitBreaker(1, 60000, 60000);
+		breaker.recordFailure();
+		((Map<String, CircuitBreaker>) ReflectionTestUtils.getField(communicator, "circuitBreakers")).put(HaivisionCommand.GET_LICENSE_INFO, breaker);
+		SectionSnapshot lastGood = new SectionSnapshot(Collections.singletonMap("License#MaxEncoders", "10"), System.currentTimeMillis());
+		lastGoodSections().put("License", lastGood);
+		ExecutorService running = Executors.newSingleThreadExecutor();
+		ReflectionTestUtils.setField(communicator, "pollExecutor", running);
+		try {
+			Map<String, String> stats = populateSections();
+
+			Assert.assertEquals("10", stats.get("License#MaxEncoders"));
+			Assert.assertEquals("true", stats.get("PollStatus#LicenseStale"));
+			Assert.assertSame("the skipped section does not replace its last good values", lastGood, lastGoodSections().get("License"));
+			Assert.assertEquals(1, breaker.getRejectedRequests());
+		} finally {
+			running.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, SectionSnapshot> lastGoodSections() {
+		return (Map<String, SectionSnapshot>) ReflectionTestUtils.getField(communicator, "lastGoodSections");
+	}
+
+	private Map<String, String> populateSections() {
+		Map<String, String> stats = new HashMap<>();
+		ReflectionTestUtils.invokeMethod(communicator, "populateSections", stats);
+		return stats;
+	}
+
+	/**
+	 * Executor accepting tasks without ever running them; optionally cancels them right away
+	 */
+	private static class StalledExecutor extends AbstractExecutorService {
+		private final AtomicInteger submitted = new AtomicInteger();
+		private boolean cancel;
+
+		@Override
+		public void execute(Runnable command) {
+			submitted.incrementAndGet();
+			if (cancel) {
+				((Future<?>) command).cancel(true);
+			}
+		}
+
+		@Override
+		public void shutdown() {
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return false;
+		}
+	}
+}
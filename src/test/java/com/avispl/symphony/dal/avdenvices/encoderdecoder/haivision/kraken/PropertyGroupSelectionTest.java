@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyCache;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Tag("Mock")
+public class PropertyGroupSelectionTest {
+	private static final String GPU_NAME = "GPU_%s#SystemGPUsName";
+	private static final String CPU_LOAD = "System#SystemCPULoad(%)";
+
+	private HaivisionKrakenCommunicator communicator;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		executor = Executors.newSingleThreadExecutor();
+		ReflectionTestUtils.setField(communicator, "pollExecutor", executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testDeselectedGroupsAreNeitherRequestedNorPublished() throws Exception {
+		communicator.setPropertyGroups("GPU");
+		prefetch(HaivisionCommand.GET_SYSTEM_INFO, "{\"version\":\"4.1.2\"}");
+		prefetch(HaivisionCommand.GET_LICENSE_INFO, "{\"maxEncoders\":10}");
+		prefetch(HaivisionCommand.GET_SYSTEM_LOAD, systemLoad(gpu("A2000"), gpu("T4")));
+
+		Map<String, String> stats = populateSections();
+
+		Assert.assertEquals("A2000", stats.get(String.format(GPU_NAME, 0)));
+		Assert.assertEquals("T4", stats.get(String.format(GPU_NAME, 1)));
+		Assert.assertFalse("the load group is not selected", stats.containsKey(CPU_LOAD));
+		Assert.assertEquals("false", stats.get("PollStatus#SystemLoadStale"));
+		// sections without a selected group are skipped: not requested, no poll status
+		for (String section : new String[] { "System", "Network", "License", "Streams", "Service" }) {
+			Assert.assertFalse(section, stats.containsKey("PollStatus#" + section + "Stale"));
+		}
+		Assert.assertTrue(prefetched().containsKey(HaivisionCommand.GET_SYSTEM_INFO));
+		Assert.assertTrue(prefetched().containsKey(HaivisionCommand.GET_LICENSE_INFO));
+		Assert.assertFalse(prefetched().containsKey(HaivisionCommand.GET_SYSTEM_LOAD));
+	}
+
+	@Test
+	void testLoadWithoutGpuGroups() throws Exception {
+		communicator.setPropertyGroups("Load");
+		prefetch(HaivisionCommand.GET_SYSTEM_LOAD, systemLoad(gpu("A2000")));
+
+		Map<String, String> stats = populateSections();
+
+		Assert.assertEquals("12", stats.get(CPU_LOAD));
+		Assert.assertFalse(stats.containsKey(String.format(GPU_NAME, 0)));
+		Assert.assertTrue(gpuKeys().entities().isEmpty());
+	}
+
+	@Test
+	void testGpuGroupsFollowTheReportedGpus() throws Exception {
+		communicator.setPropertyGroups("GPU");
+		prefetch(HaivisionCommand.GET_SYSTEM_LOAD, systemLoad(gpu("A2000"), gpu("T4")));
+		populateSections();
+		Assert.assertEquals(2, gpuKeys().entities().size());
+
+		prefetch(HaivisionCommand.GET_SYSTEM_LOAD, systemLoad(gpu("A2000")));
+		Map<String, String> stats = populateSections();
+
+		Assert.assertEquals("A2000", stats.get(String.format(GPU_NAME, 0)));
+		Assert.assertFalse(stats.containsKey(String.format(GPU_NAME, 1)));
+		Assert.assertFalse("the group of a removed GPU is dropped", gpuKeys().entities().contains("1"));
+	}
+
+	@Test
+	void testNoSelectedGroupSkipsEverySection() {
+		communicator.setPropertyGroups("Cpu");
+		prefetch(HaivisionCommand.GET_SYSTEM_LOAD, systemLoad(gpu("A2000")));
+
+		Map<String, String> stats = populateSections();
+
+		Assert.assertTrue(stats.isEmpty());
+		Assert.assertTrue(prefetched().containsKey(HaivisionCommand.GET_SYSTEM_LOAD));
+	}
+
+	private static String gpu(String name) {
+		return "{\"name\":\"" + name + "\",\"serial\":\"0001\",\"temperature\":\"45\",\"videoClock\":\"1200\",\"memoryUsed\":\"20\",\"memoryTotal\":\"100\"}";
+	}
+
+	private static String systemLoad(String... gpus) {
+		return "{\"gpus\":[" + String.join(",", gpus) + "],\"memory\":{\"usedPercent\":\"40\"},\"cpu\":{\"loadPercent\":\"12\"},\"system\":{\"uptime\":\"3600\"}}";
+	}
+
+	private void prefetch(String command, String json) {
+		try {
+			prefetched().put(command, SharedResources.jsonReader().readTree(json));
+		} catch (Exception e) {
+			throw new IllegalArgumentException(json, e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, JsonNode> prefetched() {
+		return (Map<String, JsonNode>) ReflectionTestUtils.getField(communicator, "prefetched");
+	}
+
+	private PropertyKeyCache gpuKeys() {
+		return (PropertyKeyCache) ReflectionTestUtils.getField(communicator, "gpuKeys");
+	}
+
+	private Map<String, String> populateSections() {
+		Map<String, String> stats = new HashMap<>();
+		ReflectionTestUtils.invokeMethod(communicator, "populateSections", stats);
+		return stats;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.CircuitBreaker;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestBudget;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestPriority;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestSkippedException;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.HostResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+
+@Tag("Mock")
+public class RequestBudgetTrialTest {
+	private static final String HOST = "127.0.0.1";
+
+	private HaivisionKrakenCommunicator communicator;
+	private SharedResources sharedResources;
+	private HostResources hostResources;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setHost(HOST);
+		communicator.setRequestsPerSecond(0);
+		communicator.setMaxConcurrentRequests(1);
+		sharedResources = SharedResources.acquire();
+		hostResources = sharedResources.acquireHost(HOST);
+		ReflectionTestUtils.setField(communicator, "hostResources", hostResources);
+	}
+
+	@AfterEach
+	void tearDown() {
+		sharedResources.releaseHost(hostResources);
+		SharedResources.release(sharedResources);
+	}
+
+	@Test
+	void testInterruptedWaitGivesTheTrialBack() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(1, 1, 1);
+		breaker.recordFailure();
+		Assert.assertTrue(breaker.allowRequest());
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+		// the only concurrency slot of the host is taken, the trial request has to wait for it
+		RequestBudget budget = hostResources.getRequestBudget(0, 1);
+		budget.acquire(RequestPriority.HIGH, 1, TimeUnit.SECONDS);
+		Thread.currentThread().interrupt();
+		try {
+			ReflectionTestUtils.invokeMethod(communicator, "requestWithinBudget", breaker, HaivisionCommand.GET_SYSTEM_LOAD, HaivisionCommand.GET_SYSTEM_LOAD);
+			Assert.fail("the wait for the budget must be interrupted");
+		} catch (UndeclaredThrowableException e) {
+			Assert.assertTrue(e.getCause() instanceof InterruptedException);
+		} finally {
+			Thread.interrupted();
+			budget.release();
+		}
+
+		Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assert.assertTrue("the next request is admitted as the trial", breaker.allowRequest());
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+	}
+
+	@Test
+	void testWaitForTheBudgetIsBounded() throws Exception {
+		communicator.setPollTimeout(50);
+		CircuitBreaker breaker = new CircuitBreaker(1, 1, 1);
+		breaker.recordFailure();
+		Assert.assertTrue(breaker.allowRequest());
+
+		RequestBudget budget = hostResources.getRequestBudget(0, 1);
+		budget.acquire(RequestPriority.HIGH, 1, TimeUnit.SECONDS);
+		long start = System.nanoTime();
+		try {
+			ReflectionTestUtils.invokeMethod(communicator, "requestWithinBudget", breaker, HaivisionCommand.GET_SYSTEM_LOAD, HaivisionCommand.GET_SYSTEM_LOAD);
+			Assert.fail("the request is not admitted before the deadline");
+		} catch (RequestSkippedException e) {
+			Assert.assertEquals(HaivisionCommand.GET_SYSTEM_LOAD, e.getCommand());
+		} finally {
+			budget.release();
+		}
+		Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+		Assert.assertTrue("the next request is admitted as the trial", breaker.allowRequest());
+	}
+}
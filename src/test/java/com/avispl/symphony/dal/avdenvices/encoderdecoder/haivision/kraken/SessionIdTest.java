@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Tag("Mock")
+public class SessionIdTest {
+	private static final String SESSION = "3f2a9c1e-7b4d-4e8f-a1b2-c3d4e5f60718";
+
+	private HaivisionKrakenCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+	}
+
+	@Test
+	void testSessionFromCookie() throws Exception {
+		login("{}", "DisplayUnsavedWarning=true; Path=/", "id=" + SESSION + "; Path=/; Secure; HttpOnly;");
+		Assert.assertEquals(SESSION, ReflectionTestUtils.getField(communicator, "authenticationCookie"));
+	}
+
+	@Test
+	void testCookieWithoutSessionIsIgnored() throws Exception {
+		login("{\"id\":\"from-body\"}", "id=not-a-uuid; Path=/");
+		Assert.assertEquals("", ReflectionTestUtils.getField(communicator, "authenticationCookie"));
+	}
+
+	@Test
+	void testSessionFromBodyWithoutCookie() throws Exception {
+		login("{\"user\":{\"id\":\"nested\"},\"roles\":[\"admin\"],\"id\":\"" + SESSION + "\"}");
+		Assert.assertEquals("only the top level id counts", SESSION, ReflectionTestUtils.getField(communicator, "authenticationCookie"));
+	}
+
+	@Test
+	void testMissingOrMalformedSession() throws Exception {
+		for (String body : new String[] { "{\"user\":\"admin\"}", "{\"id\":null}", "{\"id\":", "[\"" + SESSION + "\"]", "" }) {
+			ReflectionTestUtils.setField(communicator, "authenticationCookie", "previous");
+			login(body);
+			Assert.assertEquals(body, "", ReflectionTestUtils.getField(communicator, "authenticationCookie"));
+		}
+	}
+
+	@Test
+	void testExtractSessionIdStopsAtTheTopLevelId() {
+		String id = ReflectionTestUtils.invokeMethod(communicator, "extractSessionId",
+				new ByteArrayInputStream(("{\"id\":\"" + SESSION + "\",\"trailing\":").getBytes(StandardCharsets.UTF_8)));
+		Assert.assertEquals("the rest of the body is not read", SESSION, id);
+	}
+
+	@Test
+	void testUuidFromCookie() {
+		Assert.assertEquals(SESSION, ReflectionTestUtils.invokeMethod(communicator, "extractUUIDFromCookie", "id=" + SESSION.toUpperCase() + "; Path=/")
+				.toString().toLowerCase());
+		Assert.assertEquals("", ReflectionTestUtils.invokeMethod(communicator, "extractUUIDFromCookie", "id=3f2a9c1e-7b4d-4e8f-a1b2; Path=/"));
+		Assert.assertEquals("", ReflectionTestUtils.invokeMethod(communicator, "extractUUIDFromCookie", ""));
+	}
+
+	@Test
+	void testFormatEpochSeconds() {
+		Assert.assertEquals("Jan 1, 1970, 12:00 AM", ReflectionTestUtils.invokeMethod(communicator, "formatMillisecondsToDate", "0"));
+		Assert.assertEquals("Nov 14, 2023, 10:13 PM", ReflectionTestUtils.invokeMethod(communicator, "formatMillisecondsToDate", "1700000000"));
+		Assert.assertEquals("None", ReflectionTestUtils.invokeMethod(communicator, "formatMillisecondsToDate", "None"));
+		Assert.assertEquals("None", ReflectionTestUtils.invokeMethod(communicator, "formatMillisecondsToDate", "not-a-date"));
+	}
+
+	@Test
+	void testSharedFormatterAcrossThreads() throws Exception {
+		DateTimeFormatter expected = DateTimeFormatter.ofPattern("MMM d, yyyy, h:mm a").withZone(ZoneId.of("GMT"));
+		Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(HaivisionKrakenCommunicator.class, "FORMATTED_DATES");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 2000; i++) {
+				long seconds = 1700000000L + i * 3607L;
+				results.add(executor.submit(() -> expected.format(Instant.ofEpochSecond(seconds))
+						.equals(ReflectionTestUtils.invokeMethod(communicator, "formatMillisecondsToDate", String.valueOf(seconds)))));
+			}
+			for (Future<Boolean> result : results) {
+				Assert.assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Assert.assertTrue("the cache is cleared at its limit", cache.size() <= 256 + 8);
+	}
+
+	private void login(String body, String... cookies) throws Exception {
+		ClientHttpRequestInterceptor interceptor = (ClientHttpRequestInterceptor) ReflectionTestUtils.getField(communicator, "haivisionInterceptor");
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://10.0.0.1/apis/v2/login"));
+		interceptor.intercept(request, new byte[0], (req, bytes) -> {
+			MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+			for (String cookie : cookies) {
+				response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie);
+			}
+			return response;
+		});
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent.ConcurrencyLimitedExecutor;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.StreamEntry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Tag("Mock")
+public class StreamReconcileTest {
+	private static final String CAM = "aaaaaaaa-0000-0000-0000-000000000001";
+	private static final String STAGE = "bbbbbbbb-0000-0000-0000-000000000002";
+	private static final String CAM_COPY = "cccccccc-0000-0000-0000-000000000003";
+
+	private HaivisionKrakenCommunicator communicator;
+	private ExecutorService lookupExecutor;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new HaivisionKrakenCommunicator();
+		communicator.setPropertyGroups("Streams");
+		lookupExecutor = Executors.newFixedThreadPool(2);
+		ReflectionTestUtils.setField(communicator, "lookupExecutor", lookupExecutor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		lookupExecutor.shutdownNow();
+	}
+
+	@Test
+	void testUnchangedStreamsAreReusedByUuid() throws Exception {
+		poll(stream(CAM, "Cam", "running"), stream(STAGE, "Stage", "running"), stream(CAM_COPY, "Cam", "stopped"));
+		Map<String, StreamEntry> first = new HashMap<>(streamEntries());
+		Assert.assertEquals(3, first.size());
+		Assert.assertEquals("Cam [aaaaaaaa]", first.get(CAM).getGroup());
+		Assert.assertEquals("Cam [cccccccc]", first.get(CAM_COPY).getGroup());
+		Assert.assertEquals("Stage", first.get(STAGE).getGroup());
+
+		// the copy is deleted and the stage moves in the list, its content is unchanged
+		Map<String, String> stats = poll(stream(STAGE, "Stage", "running"), stream(CAM, "Cam", "running"));
+		Map<String, StreamEntry> second = new HashMap<>(streamEntries());
+		Assert.assertEquals(2, second.size());
+		Assert.assertSame("an unchanged stream publishes its previous block", first.get(STAGE), second.get(STAGE));
+		Assert.assertNotSame("a stream whose group changed is rebuilt", first.get(CAM), second.get(CAM));
+		Assert.assertEquals("Cam", second.get(CAM).getGroup());
+		Assert.assertFalse(second.containsKey(CAM_COPY));
+		Assert.assertTrue(stats.keySet().containsAll(second.get(STAGE).getProperties().keySet()));
+		Assert.assertTrue(stats.keySet().containsAll(second.get(CAM).getProperties().keySet()));
+		for (String key : stats.keySet()) {
+			Assert.assertFalse("the deleted stream is no longer published", key.contains("cccccccc"));
+		}
+
+		poll(stream(STAGE, "Stage", "running"), stream(CAM, "Cam", "stopped"));
+		Map<String, StreamEntry> third = streamEntries();
+		Assert.assertSame(second.get(STAGE), third.get(STAGE));
+		Assert.assertNotSame("a changed stream is rebuilt", second.get(CAM), third.get(CAM));
+		Assert.assertTrue(third.get(CAM).getProperties().containsValue("stopped"));
+	}
+
+	@Test
+	void testIncompleteStreamIsResolvedAgain() throws Exception {
+		// the input lookup fails, the adapter is not initialized
+		String item = "{\"uuid\":\"" + CAM + "\",\"name\":\"Cam\",\"status\":\"running\",\"input\":\"in-1\"}";
+		poll(item);
+		StreamEntry first = streamEntries().get(CAM);
+		Assert.assertFalse(first.isComplete());
+
+		poll(item);
+		Assert.assertNotSame("an incomplete block is never reused", first, streamEntries().get(CAM));
+	}
+
+	@Test
+	void testLookupsRunOnASaturatedPool() throws Exception {
+		// every thread of the shared pool is busy, the lookups never leave the queue
+		ReflectionTestUtils.setField(communicator, "lookupExecutor", new ConcurrencyLimitedExecutor(task -> {
+		}, 2));
+
+		Map<String, String> stats = poll(stream(CAM, "Cam", "running"), stream(STAGE, "Stage", "running"), stream(CAM_COPY, "Cam", "stopped"));
+
+		Assert.assertEquals("the section runs the lookups it waits for", 3, streamEntries().size());
+		Assert.assertTrue(stats.keySet().containsAll(streamEntries().get(STAGE).getProperties().keySet()));
+	}
+
+	private Map<String, String> poll(String... streams) throws Exception {
+		JsonNode response = SharedResources.jsonReader().readTree("{\"stream_list\":[" + String.join(",", streams) + "]}");
+		prefetched().put(HaivisionCommand.GET_ALL_STREAMS, response);
+		Map<String, String> stats = new HashMap<>();
+		ReflectionTestUtils.invokeMethod(communicator, "populateStreamsInfo", stats);
+		return stats;
+	}
+
+	private static String stream(String uuid, String name, String status) {
+		return "{\"uuid\":\"" + uuid + "\",\"name\":\"" + name + "\",\"status\":\"" + status + "\",\"mode\":\"transcoder\",\"outputs\":[]}";
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, StreamEntry> streamEntries() {
+		return (Map<String, StreamEntry>) ReflectionTestUtils.getField(communicator, "streamEntries");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, JsonNode> prefetched() {
+		return (Map<String, JsonNode>) ReflectionTestUtils.getField(communicator, "prefetched");
+	}
+}
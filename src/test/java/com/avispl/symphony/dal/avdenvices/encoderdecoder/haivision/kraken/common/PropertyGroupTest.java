@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.EnumSet;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class PropertyGroupTest {
+
+	@Test
+	void testBlankSelectsEveryGroup() {
+		Assert.assertEquals(EnumSet.allOf(PropertyGroup.class), PropertyGroup.ofList(null));
+		Assert.assertEquals(EnumSet.allOf(PropertyGroup.class), PropertyGroup.ofList(" "));
+	}
+
+	@Test
+	void testGroupsMatchIgnoringCaseAndSpaces() {
+		Assert.assertEquals(EnumSet.of(PropertyGroup.SYSTEM, PropertyGroup.GPU, PropertyGroup.NETWORK_INTERFACE),
+				PropertyGroup.ofList(" system,GPU , networkinterface"));
+	}
+
+	@Test
+	void testUnknownAndEmptyEntriesAreIgnored() {
+		Assert.assertEquals(EnumSet.of(PropertyGroup.LOAD), PropertyGroup.ofList("Load, ,Cpu,,"));
+		Assert.assertTrue("a list of unknown groups selects nothing", PropertyGroup.ofList("Cpu").isEmpty());
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class StreamFilterTest {
+	private static final String UUID = "3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+
+	@Test
+	void testBlankConfigurationAcceptsAll() {
+		StreamFilter filter = StreamFilter.of(" ", "", null);
+		Assert.assertTrue(filter.isAcceptAll());
+		Assert.assertTrue(filter.accept("Cam", null, null));
+	}
+
+	@Test
+	void testIncludeMatchesNameOrUuid() {
+		StreamFilter filter = StreamFilter.of("^Lobby|^3f2504e0", null, null);
+		Assert.assertTrue(filter.accept("Lobby cam", "other", "transcoder"));
+		Assert.assertTrue(filter.accept("Stage", UUID, "transcoder"));
+		Assert.assertFalse(filter.accept("Stage", "other", "transcoder"));
+	}
+
+	@Test
+	void testExcludeWinsOverInclude() {
+		StreamFilter filter = StreamFilter.of("cam", "test", null);
+		Assert.assertTrue(filter.accept("Lobby cam", UUID, null));
+		Assert.assertFalse(filter.accept("Lobby cam test", UUID, null));
+		Assert.assertFalse(StreamFilter.of("cam", "^3f2504e0", null).accept("Lobby cam", UUID, null));
+	}
+
+	@Test
+	void testModeAppliesOnTopOfPatterns() {
+		StreamFilter filter = StreamFilter.of("cam", null, "transcoder");
+		Assert.assertTrue(filter.accept("Lobby cam", UUID, "TRANSCODER"));
+		Assert.assertFalse(filter.accept("Lobby cam", UUID, "iorouter"));
+		Assert.assertFalse(filter.accept("Lobby cam", UUID, null));
+		Assert.assertFalse(filter.accept("Stage", UUID, "transcoder"));
+	}
+
+	@Test
+	void testBypassIsAliasOfIorouter() {
+		StreamFilter filter = StreamFilter.of(null, null, "transcoder, bypass");
+		Assert.assertTrue(filter.accept("Cam", UUID, "iorouter"));
+		Assert.assertTrue(filter.accept("Cam", UUID, "transcoder"));
+		Assert.assertTrue(StreamFilter.of(null, null, "iorouter").accept("Cam", UUID, "bypass"));
+		Assert.assertFalse(filter.accept("Cam", UUID, "encoder"));
+	}
+
+	@Test
+	void testInvalidPatternIsIgnored() {
+		StreamFilter filter = StreamFilter.of("[", "(", null);
+		Assert.assertTrue(filter.isAcceptAll());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.HaivisionKrakenCommunicator;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyCache;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key.PropertyKeyTable;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Tag("Mock")
+public class StreamsSummaryTest {
+
+	@Test
+	void testCounters() {
+		StreamsSummary summary = new StreamsSummary();
+		summary.add("running", "Transcoder", 2);
+		summary.add("running", "Bypass", 1);
+		summary.add("stopped", "Transcoder", 0);
+
+		Assert.assertEquals(3, summary.getTotal());
+		Assert.assertEquals(2, summary.getWithOutputs());
+		Assert.assertEquals(1, summary.getWithoutOutputs());
+		Assert.assertEquals(3, summary.getOutputs());
+		Assert.assertEquals(Integer.valueOf(2), summary.getByStatus().get("running"));
+		Assert.assertEquals(Integer.valueOf(1), summary.getByStatus().get("stopped"));
+		Assert.assertEquals(Integer.valueOf(2), summary.getByMode().get("Transcoder"));
+		Assert.assertEquals(Integer.valueOf(1), summary.getByMode().get("Bypass"));
+	}
+
+	@Test
+	void testEmptySummary() {
+		StreamsSummary summary = new StreamsSummary();
+		Assert.assertEquals(0, summary.getTotal());
+		Assert.assertEquals(0, summary.getWithoutOutputs());
+		Assert.assertEquals(Collections.emptyMap(), summary.getByStatus());
+		Assert.assertEquals(Collections.emptyMap(), summary.getByMode());
+	}
+
+	@Test
+	void testPublishedCountersDropToZero() throws Exception {
+		HaivisionKrakenCommunicator communicator = new HaivisionKrakenCommunicator();
+		communicator.setPropertyGroups("Streams");
+		ExecutorService lookupExecutor = Executors.newSingleThreadExecutor();
+		ReflectionTestUtils.setField(communicator, "lookupExecutor", lookupExecutor);
+		try {
+			Map<String, String> stats = poll(communicator, "{\"uuid\":\"a\",\"name\":\"A\",\"status\":\"running\",\"mode\":\"iorouter\",\"outputs\":[]},"
+					+ "{\"uuid\":\"b\",\"name\":\"B\",\"status\":\"stopped\",\"mode\":\"transcoder\",\"outputs\":[]}");
+			Assert.assertEquals("2", stats.get("StreamsSummary#Total"));
+			Assert.assertEquals("2", stats.get("StreamsSummary#WithoutOutputs"));
+			Assert.assertEquals("1", stats.get("StreamsSummary#StatusRunning"));
+			Assert.assertEquals("1", stats.get("StreamsSummary#StatusStopped"));
+			Assert.assertEquals("1", stats.get("StreamsSummary#ModeBypass"));
+			Assert.assertEquals("1", stats.get("StreamsSummary#ModeTranscoder"));
+
+			stats = poll(communicator, "{\"uuid\":\"b\",\"name\":\"B\",\"status\":\"stopped\",\"mode\":\"transcoder\",\"outputs\":[]}");
+			Assert.assertEquals("1", stats.get("StreamsSummary#Total"));
+			Assert.assertEquals("a counter no stream matches any more is published as 0", "0", stats.get("StreamsSummary#StatusRunning"));
+			Assert.assertEquals("0", stats.get("StreamsSummary#ModeBypass"));
+			Assert.assertEquals("1", stats.get("StreamsSummary#ModeTranscoder"));
+			PropertyKeyCache statusKeys = (PropertyKeyCache) ReflectionTestUtils.getField(communicator, "streamStatusKeys");
+			Assert.assertEquals("counter keys are cached by device status", new HashSet<>(Arrays.asList("running", "stopped")), statusKeys.entities());
+			PropertyKeyTable stopped = statusKeys.get("stopped");
+			poll(communicator, "{\"uuid\":\"b\",\"name\":\"B\",\"status\":\"stopped\",\"mode\":\"transcoder\",\"outputs\":[]}");
+			Assert.assertSame(stopped, statusKeys.get("stopped"));
+		} finally {
+			lookupExecutor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> poll(HaivisionKrakenCommunicator communicator, String streams) throws Exception {
+		JsonNode response = SharedResources.jsonReader().readTree("{\"stream_list\":[" + streams + "]}");
+		((Map<String, JsonNode>) ReflectionTestUtils.getField(communicator, "prefetched")).put(HaivisionCommand.GET_ALL_STREAMS, response);
+		Map<String, String> stats = new HashMap<>();
+		ReflectionTestUtils.invokeMethod(communicator, "populateStreamsInfo", stats);
+		return stats;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+
+@Tag("Mock")
+public class DeviceCapabilitiesTest {
+	private final AtomicLong now = new AtomicLong(1000);
+
+	@Test
+	void testUnsupportedEndpointIsProbedAgain() {
+		DeviceCapabilities capabilities = new DeviceCapabilities("4.1.2", 60000, now::get);
+		Assert.assertTrue("unknown endpoints are requested", capabilities.isSupported(HaivisionCommand.GET_RTSP));
+
+		capabilities.recordUnsupported(HaivisionCommand.GET_RTSP);
+		Assert.assertFalse(capabilities.isSupported(HaivisionCommand.GET_RTSP));
+		Assert.assertFalse(capabilities.hasField(HaivisionCommand.GET_RTSP, "rtsp_port"));
+		Assert.assertEquals(1, capabilities.getUnsupportedEndpoints().size());
+		now.addAndGet(59999);
+		Assert.assertFalse(capabilities.isSupported(HaivisionCommand.GET_RTSP));
+
+		now.addAndGet(1);
+		Assert.assertTrue("the endpoint is probed again once the delay elapsed", capabilities.isSupported(HaivisionCommand.GET_RTSP));
+		Assert.assertEquals(Collections.emptySet(), capabilities.getUnsupportedEndpoints());
+		capabilities.recordUnsupported(HaivisionCommand.GET_RTSP);
+		Assert.assertFalse("a failed probe starts a new delay", capabilities.isSupported(HaivisionCommand.GET_RTSP));
+	}
+
+	@Test
+	void testProbedEndpointRecordsItsOptionalFields() throws Exception {
+		DeviceCapabilities capabilities = new DeviceCapabilities("4.1.2", 60000, now::get);
+		capabilities.recordUnsupported(HaivisionCommand.GET_LICENSE_INFO);
+		now.addAndGet(60000);
+		Assert.assertTrue(capabilities.isSupported(HaivisionCommand.GET_LICENSE_INFO));
+
+		capabilities.recordSupported(HaivisionCommand.GET_LICENSE_INFO, SharedResources.jsonReader().readTree("{\"max_encoders\":10}"));
+
+		Assert.assertTrue(capabilities.isSupported(HaivisionCommand.GET_LICENSE_INFO));
+		Assert.assertTrue(capabilities.hasField(HaivisionCommand.GET_LICENSE_INFO, "max_encoders"));
+		Assert.assertFalse(capabilities.hasField(HaivisionCommand.GET_LICENSE_INFO, "active_bypass_sessions"));
+		Assert.assertEquals(2, capabilities.getMissingFields().size());
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.HaivisionCommand;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.CapturedExchange;
+
+@Tag("Mock")
+public class CaptureInterceptorTest {
+	private static final String SESSION = "3f2a9c1e-7b4d-4e8f-a1b2-c3d4e5f60718";
+	private static final String PASSWORD = "s3cret-passw0rd";
+	private static final String PREFIX = "test-10.0.0.1-";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testRecordedLoginIsRedacted() throws Exception {
+		List<CapturedExchange> exchanges;
+		try (CaptureStore store = new CaptureStore(directory, PREFIX, 1 << 20, 2)) {
+			RecordingInterceptor interceptor = new RecordingInterceptor(store, HaivisionCommand.API_LOGIN);
+			MockClientHttpRequest login = request(HttpMethod.POST, "https://10.0.0.1/apis/v2/login");
+			login.getHeaders().add(HttpHeaders.AUTHORIZATION, "Basic YWRtaW46" + PASSWORD);
+			byte[] credentials = ("{\"username\":\"admin\",\"password\":\"" + PASSWORD + "\"}").getBytes(StandardCharsets.UTF_8);
+
+			ClientHttpResponse response = interceptor.intercept(login, credentials, respond(HttpStatus.OK,
+					"{\"id\":\"" + SESSION + "\",\"password\":\"" + PASSWORD + "\"}", "id=" + SESSION + "; Path=/; Secure; HttpOnly;"));
+
+			Assert.assertTrue("the caller still gets the session", StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8).contains(SESSION));
+			Assert.assertTrue(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE).contains(SESSION));
+
+			MockClientHttpRequest poll = request(HttpMethod.GET, "https://10.0.0.1/apis/v2/streams?limit=10");
+			poll.getHeaders().add(HttpHeaders.COOKIE, "id=" + SESSION + "; Path=/; Secure; HttpOnly;");
+			interceptor.intercept(poll, new byte[0], respond(HttpStatus.OK, "[{\"id\":\"" + SESSION + "\"}]", null));
+			exchanges = store.readAll();
+		}
+
+		String files;
+		try (Stream<Path> list = Files.list(directory)) {
+			List<Path> paths = list.collect(Collectors.toList());
+			Assert.assertEquals(1, paths.size());
+			Assert.assertTrue(paths.get(0).getFileName().toString().startsWith(PREFIX));
+			files = new String(Files.readAllBytes(paths.get(0)), StandardCharsets.UTF_8);
+		}
+		Assert.assertFalse("the password must never reach the capture", files.contains(PASSWORD));
+		Assert.assertEquals("only the stream id, which is not a session, is kept", 1, files.split(SESSION, -1).length - 1);
+
+		Assert.assertEquals(2, exchanges.size());
+		CapturedExchange login = exchanges.get(0);
+		Assert.assertEquals("POST", login.getMethod());
+		Assert.assertEquals("/apis/v2/login", login.getUri());
+		Assert.assertEquals(Collections.singletonList(CaptureRedactor.REDACTED), login.getRequestHeaders().get(HttpHeaders.AUTHORIZATION));
+		Assert.assertTrue(login.getResponseHeaders().get(HttpHeaders.SET_COOKIE).get(0).contains(CaptureRedactor.REDACTED_SESSION));
+		Assert.assertTrue(login.getBody().contains(CaptureRedactor.REDACTED_SESSION));
+		CapturedExchange poll = exchanges.get(1);
+		Assert.assertEquals("/apis/v2/streams?limit=10", poll.getUri());
+		Assert.assertTrue(poll.getRequestHeaders().get(HttpHeaders.COOKIE).get(0).contains(CaptureRedactor.REDACTED_SESSION));
+	}
+
+	@Test
+	void testReplayServesResponsesInOrder() throws Exception {
+		List<CapturedExchange> exchanges = new ArrayList<>();
+		exchanges.add(exchange("GET", "/apis/v2/streams", 200, "[1]"));
+		exchanges.add(exchange("GET", "/apis/v2/metadata", 200, "{}"));
+		exchanges.add(exchange("GET", "/apis/v2/streams", 500, "[2]"));
+		ReplayInterceptor interceptor = new ReplayInterceptor(exchanges, 0);
+		ClientHttpRequestExecution device = (request, body) -> {
+			throw new AssertionError("a replayed request never reaches the device");
+		};
+
+		Assert.assertEquals("[1]", body(interceptor.intercept(request(HttpMethod.GET, "https://10.0.0.1/apis/v2/streams"), new byte[0], device)));
+		ClientHttpResponse second = interceptor.intercept(request(HttpMethod.GET, "https://10.0.0.1/apis/v2/streams"), new byte[0], device);
+		Assert.assertEquals(500, second.getRawStatusCode());
+		Assert.assertEquals("[2]", body(second));
+		Assert.assertEquals("the recording starts over", "[1]", body(interceptor.intercept(request(HttpMethod.GET, "https://10.0.0.1/apis/v2/streams"), new byte[0], device)));
+		Assert.assertEquals(404, interceptor.intercept(request(HttpMethod.POST, "https://10.0.0.1/apis/v2/streams"), new byte[0], device).getRawStatusCode());
+		Assert.assertEquals(404, interceptor.intercept(request(HttpMethod.GET, "https://10.0.0.1/apis/v2/inputs"), new byte[0], device).getRawStatusCode());
+	}
+
+	@Test
+	void testReplayDropsEncodingHeaders() throws Exception {
+		CapturedExchange exchange = exchange("GET", "/apis/v2/streams", 200, "[]");
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+		headers.add(HttpHeaders.CONTENT_LENGTH, "20");
+		headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
+		exchange.setResponseHeaders(headers);
+		ReplayInterceptor interceptor = new ReplayInterceptor(Collections.singletonList(exchange), 0);
+
+		ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET, "https://10.0.0.1/apis/v2/streams"), new byte[0], null);
+
+		Assert.assertNull("the body was recorded decoded", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		Assert.assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertEquals("application/json", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+	}
+
+	private static MockClientHttpRequest request(HttpMethod method, String uri) {
+		return new MockClientHttpRequest(method, URI.create(uri));
+	}
+
+	private static ClientHttpRequestExecution respond(HttpStatus status, String body, String cookie) {
+		return (request, requestBody) -> {
+			MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+			if (cookie != null) {
+				response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie);
+			}
+			return response;
+		};
+	}
+
+	private static CapturedExchange exchange(String method, String uri, int status, String body) {
+		CapturedExchange exchange = new CapturedExchange();
+		exchange.setMethod(method);
+		exchange.setUri(uri);
+		exchange.setStatus(status);
+		exchange.setBody(body);
+		return exchange;
+	}
+
+	private static String body(ClientHttpResponse response) throws Exception {
+		return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+	}
+}
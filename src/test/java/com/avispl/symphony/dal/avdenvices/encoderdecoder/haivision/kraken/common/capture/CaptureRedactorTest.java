@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capture;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class CaptureRedactorTest {
+	private static final String SESSION = "3f2a9c1e-7b4d-4e8f-a1b2-c3d4e5f60718";
+
+	@Test
+	void testCredentialHeadersAreRedacted() {
+		Map<String, List<String>> headers = new LinkedHashMap<>();
+		headers.put("Authorization", Collections.singletonList("Basic YWRtaW46c2VjcmV0"));
+		headers.put("Cookie", Arrays.asList("DisplayUnsavedWarning=true; Path=/; Secure;", "id=" + SESSION + "; Path=/; Secure; HttpOnly;"));
+		headers.put("Accept", Collections.singletonList("application/json"));
+
+		Map<String, List<String>> redacted = CaptureRedactor.redactHeaders(headers);
+
+		Assert.assertEquals(Collections.singletonList(CaptureRedactor.REDACTED), redacted.get("Authorization"));
+		Assert.assertEquals(Arrays.asList("DisplayUnsavedWarning=true; Path=/; Secure;", "id=" + CaptureRedactor.REDACTED_SESSION + "; Path=/; Secure; HttpOnly;"), redacted.get("Cookie"));
+		Assert.assertEquals(Collections.singletonList("application/json"), redacted.get("Accept"));
+		Assert.assertTrue("the source headers are left untouched", headers.get("Cookie").get(1).contains(SESSION));
+	}
+
+	@Test
+	void testSetCookieSessionIsRedacted() {
+		Map<String, List<String>> redacted = CaptureRedactor.redactHeaders(Collections.singletonMap("set-cookie", Collections.singletonList("id=" + SESSION + "; Path=/")));
+		Assert.assertEquals(Collections.singletonList("id=" + CaptureRedactor.REDACTED_SESSION + "; Path=/"), redacted.get("set-cookie"));
+	}
+
+	@Test
+	void testLoginBodyKeepsItsShape() {
+		String body = "{\"id\":\"" + SESSION + "\",\"user\":{\"name\":\"admin\",\"password\":\"s3cret\",\"apiToken\":\"abc\"},\"roles\":[{\"secret\":\"x\"}]}";
+
+		String redacted = CaptureRedactor.redactBody(body, true);
+
+		Assert.assertEquals("{\"id\":\"" + CaptureRedactor.REDACTED_SESSION + "\",\"user\":{\"name\":\"admin\",\"password\":\"<redacted>\",\"apiToken\":\"<redacted>\"},"
+				+ "\"roles\":[{\"secret\":\"<redacted>\"}]}", redacted);
+	}
+
+	@Test
+	void testOnlyLoginSessionIdIsRedacted() {
+		String stream = "{\"id\":\"" + SESSION + "\",\"name\":\"Cam\"}";
+		Assert.assertSame("a body without secrets is kept as is", stream, CaptureRedactor.redactBody(stream, false));
+		Assert.assertEquals("not json", CaptureRedactor.redactBody("not json", true));
+		Assert.assertNull(CaptureRedactor.redactBody(null, true));
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class ConcurrencyLimitedExecutorTest {
+	private final ExecutorService shared = Executors.newCachedThreadPool();
+	private volatile boolean rejecting;
+
+	@AfterEach
+	void tearDown() {
+		shared.shutdownNow();
+	}
+
+	@Test
+	void testConcurrencyIsLimited() throws Exception {
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(shared, 2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(executor.submit(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(10);
+				running.decrementAndGet();
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(5, TimeUnit.SECONDS);
+		}
+		Assert.assertEquals(2, maxRunning.get());
+	}
+
+	@Test
+	void testRejectedTaskFailsItsFuture() throws Exception {
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(this::execute, 2);
+		rejecting = true;
+		Future<String> rejected = executor.submit(() -> "rejected");
+		try {
+			rejected.get(1, TimeUnit.SECONDS);
+			Assert.fail("the task was never run");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+
+		rejecting = false;
+		Assert.assertEquals("the permit of the rejected task was given back", "accepted", executor.submit(() -> "accepted").get(1, TimeUnit.SECONDS));
+		Assert.assertEquals("accepted", executor.submit(() -> "accepted").get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void testRejectedRunnableIsRequeued() throws Exception {
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(this::execute, 1);
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(2);
+		rejecting = true;
+		executor.execute(() -> {
+			ran.add("first");
+			done.countDown();
+		});
+		Assert.assertTrue(ran.isEmpty());
+
+		rejecting = false;
+		executor.execute(() -> {
+			ran.add("second");
+			done.countDown();
+		});
+		Assert.assertTrue(done.await(1, TimeUnit.SECONDS));
+		Assert.assertEquals("the rejected task keeps its place", "first", ran.get(0));
+		Assert.assertEquals("second", ran.get(1));
+	}
+
+	@Test
+	void testRejectionWhileDrainingFromAWorker() throws Exception {
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(this::execute, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<?> first = executor.submit(() -> {
+			release.await();
+			return null;
+		});
+		Future<String> queued = executor.submit(() -> "queued");
+		// the queued task is handed over when the first one completes, by then the shared executor is saturated
+		rejecting = true;
+		release.countDown();
+		first.get(1, TimeUnit.SECONDS);
+		try {
+			queued.get(1, TimeUnit.SECONDS);
+			Assert.fail("the task was never run");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	private void execute(Runnable task) {
+		if (rejecting) {
+			throw new RejectedExecutionException("saturated");
+		}
+		shared.execute(task);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class DeviceExecutorsTest {
+
+	@Test
+	void testSharedExecutorIsBounded() throws Exception {
+		// tests run from the class directory, where the Java 8 implementation is loaded
+		ExecutorService shared = DeviceExecutors.newSharedExecutor("test-io");
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			Assert.assertFalse(DeviceExecutors.isVirtual());
+			ThreadPoolExecutor pool = (ThreadPoolExecutor) shared;
+			Assert.assertTrue(pool.allowsCoreThreadTimeOut());
+			int maxThreads = pool.getMaximumPoolSize();
+			int capacity = pool.getQueue().remainingCapacity();
+			Assert.assertTrue(maxThreads > 0 && maxThreads < Integer.MAX_VALUE);
+			Assert.assertTrue(capacity > 0 && capacity < Integer.MAX_VALUE);
+
+			for (int i = 0; i < maxThreads + capacity; i++) {
+				shared.execute(() -> {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+			Assert.assertEquals(maxThreads, pool.getPoolSize());
+			Assert.assertEquals(capacity, pool.getQueue().size());
+			try {
+				shared.execute(() -> {
+				});
+				Assert.fail("a task beyond the threads and the queue must be rejected");
+			} catch (RejectedExecutionException e) {
+				// expected
+			}
+		} finally {
+			release.countDown();
+			shared.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.concurrent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class SingleFlightTest {
+	private static final int WAITERS = 3;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(WAITERS + 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testConcurrentCallsAreCoalesced() throws Exception {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(false);
+		AtomicInteger runs = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Callable<Integer> work = () -> {
+			runs.incrementAndGet();
+			started.countDown();
+			release.await();
+			return 42;
+		};
+
+		Future<Integer> leader = executor.submit(() -> flight.execute("key", work));
+		Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+		List<Future<Integer>> waiters = joinWaiters(flight, work);
+		release.countDown();
+
+		Assert.assertEquals(Integer.valueOf(42), leader.get(5, TimeUnit.SECONDS));
+		for (Future<Integer> waiter : waiters) {
+			Assert.assertEquals(Integer.valueOf(42), waiter.get(5, TimeUnit.SECONDS));
+		}
+		Assert.assertEquals(1, runs.get());
+	}
+
+	@Test
+	void testFailureReachesEveryWaiter() throws Exception {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(true);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		IOException failure = new IOException("device unreachable");
+		Callable<Integer> work = () -> {
+			started.countDown();
+			release.await();
+			throw failure;
+		};
+
+		Future<Integer> leader = executor.submit(() -> flight.execute("key", work));
+		Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+		List<Future<Integer>> waiters = joinWaiters(flight, work);
+		release.countDown();
+
+		waiters.add(leader);
+		for (Future<Integer> waiter : waiters) {
+			try {
+				waiter.get(5, TimeUnit.SECONDS);
+				Assert.fail("the failure of the work must reach every caller");
+			} catch (ExecutionException e) {
+				Assert.assertSame(failure, e.getCause());
+			}
+		}
+		Assert.assertFalse("failures are not memoized", flight.contains("key"));
+	}
+
+	@Test
+	void testKeyIsRemovedAfterCompletion() throws Exception {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(false);
+		AtomicInteger runs = new AtomicInteger();
+		Assert.assertEquals(Integer.valueOf(1), flight.execute("key", runs::incrementAndGet));
+		Assert.assertFalse(flight.contains("key"));
+		Assert.assertEquals(Integer.valueOf(2), flight.execute("key", runs::incrementAndGet));
+	}
+
+	@Test
+	void testMemoizedResultUntilClear() throws Exception {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(true);
+		AtomicInteger runs = new AtomicInteger();
+		Assert.assertEquals(Integer.valueOf(1), flight.execute("key", runs::incrementAndGet));
+		Assert.assertTrue(flight.contains("key"));
+		Assert.assertEquals(Integer.valueOf(1), flight.execute("key", runs::incrementAndGet));
+		flight.clear();
+		Assert.assertEquals(Integer.valueOf(2), flight.execute("key", runs::incrementAndGet));
+	}
+
+	/**
+	 * Submit callers for the key while its work is running and wait until each of them is blocked on the call
+	 */
+	private List<Future<Integer>> joinWaiters(SingleFlight<String, Integer> flight, Callable<Integer> work) throws InterruptedException {
+		List<Thread> threads = new ArrayList<>();
+		List<Future<Integer>> waiters = new ArrayList<>();
+		CountDownLatch registered = new CountDownLatch(WAITERS);
+		for (int i = 0; i < WAITERS; i++) {
+			waiters.add(executor.submit(() -> {
+				synchronized (threads) {
+					threads.add(Thread.currentThread());
+				}
+				registered.countDown();
+				return flight.execute("key", work);
+			}));
+		}
+		Assert.assertTrue(registered.await(5, TimeUnit.SECONDS));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		synchronized (threads) {
+			for (Thread thread : threads) {
+				while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+					Thread.yield();
+				}
+				Assert.assertEquals(Thread.State.WAITING, thread.getState());
+			}
+		}
+		return waiters;
+	}
+}
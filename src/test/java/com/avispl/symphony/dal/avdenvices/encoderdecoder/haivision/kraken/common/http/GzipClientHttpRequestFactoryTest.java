@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class GzipClientHttpRequestFactoryTest {
+
+	@Test
+	void testContentDecodingIsTurnedOff() throws Exception {
+		RequestConfig clientConfig = RequestConfig.custom().setConnectTimeout(1000).setSocketTimeout(2000).build();
+		try (CloseableHttpClient client = HttpClients.custom().setDefaultRequestConfig(clientConfig).build()) {
+			RequestConfig config = new GzipClientHttpRequestFactory(client).createRequestConfig(client);
+			Assert.assertFalse(config.isContentCompressionEnabled());
+			Assert.assertEquals(1000, config.getConnectTimeout());
+			Assert.assertEquals(2000, config.getSocketTimeout());
+		}
+	}
+
+	@Test
+	void testSettingsOfTheCommunicatorOverrideTheSharedClient() throws Exception {
+		RequestConfig communicatorConfig = RequestConfig.custom().setConnectTimeout(3000).setSocketTimeout(4000).build();
+		try (CloseableHttpClient client = HttpClients.custom().setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(1000).build()).build()) {
+			RequestConfig config = new GzipClientHttpRequestFactory(client, communicatorConfig).createRequestConfig(client);
+			Assert.assertFalse(config.isContentCompressionEnabled());
+			Assert.assertEquals(3000, config.getConnectTimeout());
+			Assert.assertEquals(4000, config.getSocketTimeout());
+		}
+	}
+
+	@Test
+	void testClientWithoutSettings() throws Exception {
+		try (CloseableHttpClient client = HttpClients.createMinimal()) {
+			RequestConfig config = new GzipClientHttpRequestFactory(client).createRequestConfig(client);
+			Assert.assertFalse(config.isContentCompressionEnabled());
+		}
+	}
+}
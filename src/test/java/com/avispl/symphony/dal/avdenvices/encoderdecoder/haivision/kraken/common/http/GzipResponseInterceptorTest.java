@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared.SharedResources;
+
+@Tag("Mock")
+public class GzipResponseInterceptorTest {
+	private static final String JSON = "{\"streams\":[" + String.join(",", repeat("{\"name\":\"Lobby\",\"state\":\"STREAMING\"}", 50)) + "]}";
+
+	private final TransferStatistics statistics = new TransferStatistics();
+	private final GzipResponseInterceptor interceptor = new GzipResponseInterceptor(statistics);
+
+	@Test
+	void testGzipBodyIsDecoded() throws Exception {
+		byte[] wire = gzip(JSON);
+		MockClientHttpRequest request = request();
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, body) -> respond(wire, "gzip"));
+
+		Assert.assertEquals("gzip", request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+		Assert.assertFalse(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING));
+		Assert.assertFalse("the length of the encoded body does not apply to the decoded one", response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertEquals("application/json", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+		Assert.assertEquals(JSON, read(response));
+		Assert.assertEquals(wire.length, statistics.getCompressedBytes());
+		Assert.assertEquals(JSON.length(), statistics.getUncompressedBytes());
+		Assert.assertEquals(1, statistics.getCompressedResponses());
+		Assert.assertEquals(1, statistics.getResponses());
+		Assert.assertTrue(statistics.getSavedPercent() > 50);
+	}
+
+	@Test
+	void testIdentityBodyIsPassedThrough() throws Exception {
+		byte[] wire = JSON.getBytes(StandardCharsets.UTF_8);
+		ClientHttpResponse response = interceptor.intercept(request(), new byte[0], (req, body) -> respond(wire, null));
+
+		Assert.assertEquals(String.valueOf(wire.length), response.getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertEquals(JSON, read(response));
+		Assert.assertEquals(wire.length, statistics.getCompressedBytes());
+		Assert.assertEquals(wire.length, statistics.getUncompressedBytes());
+		Assert.assertEquals(0, statistics.getCompressedResponses());
+		Assert.assertEquals(1, statistics.getResponses());
+		Assert.assertEquals(0, statistics.getSavedPercent());
+	}
+
+	@Test
+	void testEncodingIsMatchedIgnoringCase() throws Exception {
+		ClientHttpResponse response = interceptor.intercept(request(), new byte[0], (req, body) -> respond(gzip(JSON), " GZIP "));
+		Assert.assertEquals(JSON, read(response));
+		Assert.assertEquals(1, statistics.getCompressedResponses());
+	}
+
+	@Test
+	void testReset() throws Exception {
+		read(interceptor.intercept(request(), new byte[0], (req, body) -> respond(gzip(JSON), "gzip")));
+		statistics.reset();
+		Assert.assertEquals(0, statistics.getCompressedBytes());
+		Assert.assertEquals(0, statistics.getUncompressedBytes());
+		Assert.assertEquals(0, statistics.getResponses());
+		Assert.assertEquals(0, statistics.getCompressedResponses());
+	}
+
+	@Test
+	void testBytesAreAttributedToTheReadingThread() throws Exception {
+		byte[] small = gzip("{\"id\":1}");
+		byte[] large = gzip(JSON);
+		// the lookups of a poll read their responses on executor threads at the same time
+		ExecutorService lookups = Executors.newFixedThreadPool(2);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		long before = statistics.getCurrentThreadBytes();
+		try {
+			List<Future<Long>> results = new ArrayList<>();
+			for (byte[] wire : new byte[][] { small, large }) {
+				results.add(lookups.submit(() -> {
+					long start = statistics.getCurrentThreadBytes();
+					ClientHttpResponse response = interceptor.intercept(request(), new byte[0], (req, body) -> respond(wire, "gzip"));
+					barrier.await();
+					SharedResources.jsonReader().readTree(response.getBody());
+					return statistics.getCurrentThreadBytes() - start;
+				}));
+			}
+			Assert.assertEquals(small.length, (long) results.get(0).get());
+			Assert.assertEquals(large.length, (long) results.get(1).get());
+		} finally {
+			lookups.shutdownNow();
+		}
+		Assert.assertEquals("nothing was read by the polling thread", before, statistics.getCurrentThreadBytes());
+		Assert.assertEquals(small.length + large.length, statistics.getCompressedBytes());
+	}
+
+	private static MockClientHttpRequest request() {
+		return new MockClientHttpRequest(HttpMethod.GET, URI.create("https://10.0.0.1/apis/v2/streams"));
+	}
+
+	private static ClientHttpResponse respond(byte[] wire, String encoding) {
+		MockClientHttpResponse response = new MockClientHttpResponse(wire, HttpStatus.OK);
+		response.getHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+		response.getHeaders().setContentLength(wire.length);
+		if (encoding != null) {
+			response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, encoding);
+		}
+		return response;
+	}
+
+	private static String read(ClientHttpResponse response) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = response.getBody()) {
+			byte[] buffer = new byte[64];
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] gzip(String value) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(value.getBytes(StandardCharsets.UTF_8));
+		}
+		return out.toByteArray();
+	}
+
+	private static List<String> repeat(String value, int count) {
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(value);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class CompactStatisticsMapTest {
+
+	@Test
+	void testLookupsAndSortedIteration() {
+		Map<String, String> source = new HashMap<>();
+		source.put("System#Version", "4.1.2");
+		source.put("License#MaxEncoders", "10");
+		source.put("Streams#Count", "3");
+		source.put("PollStatus#Empty", null);
+		source.put(null, "dropped");
+
+		CompactStatisticsMap map = CompactStatisticsMap.copyOf(source);
+
+		Assert.assertEquals(4, map.size());
+		Assert.assertEquals(Arrays.asList("License#MaxEncoders", "PollStatus#Empty", "Streams#Count", "System#Version"), new ArrayList<>(map.keySet()));
+		Assert.assertEquals("4.1.2", map.get("System#Version"));
+		Assert.assertEquals("10", map.get("License#MaxEncoders"));
+		Assert.assertTrue(map.containsKey("PollStatus#Empty"));
+		Assert.assertNull(map.get("PollStatus#Empty"));
+		Assert.assertFalse(map.containsKey("System#Missing"));
+		Assert.assertNull(map.get("System#Missing"));
+		Assert.assertFalse(map.containsKey(null));
+		Assert.assertFalse(map.containsKey(42));
+	}
+
+	@Test
+	void testCopyOfCompactOrEmptyMap() {
+		CompactStatisticsMap map = CompactStatisticsMap.copyOf(Collections.singletonMap("a", "1"));
+		Assert.assertSame(map, CompactStatisticsMap.copyOf(map));
+		Assert.assertSame(CompactStatisticsMap.copyOf(null), CompactStatisticsMap.copyOf(new HashMap<>()));
+		Assert.assertTrue(CompactStatisticsMap.copyOf(null).isEmpty());
+	}
+
+	@Test
+	void testMapIsReadOnly() {
+		Map<String, String> source = new HashMap<>();
+		source.put("a", "1");
+		CompactStatisticsMap map = CompactStatisticsMap.copyOf(source);
+
+		assertUnsupported(() -> map.put("b", "2"));
+		assertUnsupported(() -> map.remove("a"));
+		assertUnsupported(() -> map.putAll(Collections.singletonMap("b", "2")));
+		assertUnsupported(map::clear);
+		assertUnsupported(() -> map.entrySet().iterator().next().setValue("2"));
+		assertUnsupported(() -> map.keySet().remove("a"));
+		Assert.assertEquals("1", map.get("a"));
+	}
+
+	@Test
+	void testEqualsAndHashCodeMatchHashMap() {
+		Map<String, String> source = new HashMap<>();
+		for (int i = 0; i < 50; i++) {
+			source.put("Stream " + i + "#Status", i % 2 == 0 ? "Running" : "Stopped");
+		}
+		CompactStatisticsMap map = CompactStatisticsMap.copyOf(source);
+
+		Assert.assertEquals(source, map);
+		Assert.assertEquals(map, source);
+		Assert.assertEquals(source.hashCode(), map.hashCode());
+		Assert.assertEquals(source.entrySet(), map.entrySet());
+
+		source.put("Stream 0#Status", "Stopped");
+		Assert.assertNotEquals(source, map);
+		Assert.assertNotEquals(map, source);
+	}
+
+	private static void assertUnsupported(Runnable action) {
+		try {
+			action.run();
+			Assert.fail("the map must be read-only");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class PropertyKeyCacheTest {
+	private final AtomicInteger built = new AtomicInteger();
+	private final PropertyKeyCache cache = new PropertyKeyCache(name -> {
+		built.incrementAndGet();
+		return new PropertyKeyTable("Stream_" + name, "Status");
+	});
+
+	@Test
+	void testTableIsBuiltOncePerEntity() {
+		PropertyKeyTable first = cache.get("A");
+		Assert.assertSame(first, cache.get("A"));
+		Assert.assertEquals("Stream_A#Status", first.get(0));
+		cache.get("B");
+		Assert.assertEquals(2, built.get());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("A", "B")), cache.entities());
+	}
+
+	@Test
+	void testTableOfAGoneEntityIsDropped() {
+		PropertyKeyTable first = cache.get("A");
+		cache.get("B");
+		cache.entities().clear();
+		Assert.assertEquals("entities() is a copy", 2, cache.entities().size());
+
+		cache.retainAll(Collections.singleton("B"));
+		Assert.assertEquals(Collections.singleton("B"), cache.entities());
+		Assert.assertNotSame("a returning entity gets a new table", first, cache.get("A"));
+		Assert.assertEquals(3, built.get());
+
+		cache.clear();
+		Assert.assertTrue(cache.entities().isEmpty());
+	}
+}
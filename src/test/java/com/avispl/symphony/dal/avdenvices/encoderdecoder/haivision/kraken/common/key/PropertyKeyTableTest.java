@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.key;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.metric.LicenseEnum;
+
+@Tag("Mock")
+public class PropertyKeyTableTest {
+
+	@Test
+	void testKeysAreBuiltOnceAndInterned() {
+		PropertyKeyTable table = new PropertyKeyTable("Capacity", "UsedEncoderSlots", "Headroom(%)");
+
+		Assert.assertEquals("Capacity#UsedEncoderSlots", table.get(0));
+		Assert.assertEquals("Capacity#Headroom(%)", table.get(1));
+		Assert.assertSame("lookups return the same instance", table.get(1), table.get(1));
+		Assert.assertSame("keys are interned", new StringBuilder("Capacity#").append("Headroom(%)").toString().intern(), table.get(1));
+	}
+
+	@Test
+	void testEnumTableIsIndexedByOrdinal() {
+		PropertyKeyTable table = PropertyKeyTable.of("License", LicenseEnum.values(), LicenseEnum::getName);
+
+		for (LicenseEnum item : LicenseEnum.values()) {
+			Assert.assertEquals("License#" + item.getName(), table.get(item));
+			Assert.assertSame(table.get(item.ordinal()), table.get(item));
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.logging;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class RateLimitedLogTest {
+	private final AtomicLong now = new AtomicLong(10000);
+	private final List<String> messages = new ArrayList<>();
+	private final List<Throwable> causes = new ArrayList<>();
+	private final Log logger = (Log) Proxy.newProxyInstance(Log.class.getClassLoader(), new Class<?>[] { Log.class }, (proxy, method, args) -> {
+		if (method.getName().startsWith("is")) {
+			return true;
+		}
+		if (method.getName().equals("error")) {
+			messages.add(String.valueOf(args[0]));
+			causes.add(args.length > 1 ? (Throwable) args[1] : null);
+		}
+		return null;
+	});
+
+	@Test
+	void testLimitPerWindow() {
+		RateLimitedLog log = new RateLimitedLog(logger, 1000, 2, now::get);
+		IOException timeout = new IOException("poll failed", new SocketTimeoutException("Read timed out"));
+		log.error("Streams", "first", timeout);
+		log.error("Streams", "second", timeout);
+		log.error("Streams", "third", timeout);
+
+		Assert.assertEquals(2, messages.size());
+		Assert.assertEquals("first", messages.get(0));
+		Assert.assertSame("the first error keeps its stack trace", timeout, causes.get(0));
+		Assert.assertEquals("second: java.net.SocketTimeoutException: Read timed out", messages.get(1));
+		Assert.assertNull(causes.get(1));
+	}
+
+	@Test
+	void testWindowSlides() {
+		RateLimitedLog log = new RateLimitedLog(logger, 1000, 1, now::get);
+		log.error("Streams", "first", null);
+		now.addAndGet(400);
+		log.error("Streams", "second", null);
+		now.addAndGet(599);
+		log.error("Streams", "third", null);
+		Assert.assertEquals(1, messages.size());
+
+		now.addAndGet(1);
+		log.error("Streams", "fourth", null);
+		Assert.assertEquals(2, messages.size());
+		Assert.assertEquals("fourth (2 similar errors suppressed)", messages.get(1));
+	}
+
+	@Test
+	void testDedupBySourceAndRootCause() {
+		RateLimitedLog log = new RateLimitedLog(logger, 1000, 1, now::get);
+		log.error("Streams", "timeout", new IOException(new SocketTimeoutException()));
+		log.error("Streams", "refused", new IOException(new IllegalStateException()));
+		log.error("License", "timeout", new IOException(new SocketTimeoutException()));
+		log.error("Streams", "timeout again", new RuntimeException(new SocketTimeoutException()));
+
+		Assert.assertEquals(3, messages.size());
+		Assert.assertEquals("timeout", messages.get(0));
+		Assert.assertEquals("refused", messages.get(1));
+		Assert.assertEquals("timeout", messages.get(2));
+	}
+
+	@Test
+	void testFlushReportsQuietSources() {
+		RateLimitedLog log = new RateLimitedLog(logger, 1000, 1, now::get);
+		log.error("Streams", "first", null);
+		log.error("Streams", "second", null);
+		log.error("Streams", "third", null);
+		log.flush();
+		Assert.assertEquals("the source is still within its window", 1, messages.size());
+
+		now.addAndGet(1000);
+		log.flush();
+		Assert.assertEquals(2, messages.size());
+		Assert.assertEquals("2 similar errors suppressed in the last 1000 ms, last one: third", messages.get(1));
+
+		log.flush();
+		Assert.assertEquals("the summary is emitted once", 2, messages.size());
+		log.error("Streams", "fourth", null);
+		Assert.assertEquals("fourth", messages.get(2));
+	}
+
+	@Test
+	void testNonPositiveLimitsLogEverything() {
+		RateLimitedLog log = new RateLimitedLog(logger, 1000, 1, now::get);
+		log.setLimits(0, 1);
+		for (int i = 0; i < 5; i++) {
+			log.error("Streams", "error " + i, null);
+		}
+		Assert.assertEquals(5, messages.size());
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.persistence;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.monitor.GenericStatistics;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.PersistedSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.SectionSnapshot;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.StreamEntry;
+
+@Tag("Mock")
+public class SnapshotStoreTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	void testMissingFileHasNoSnapshot() throws Exception {
+		Assert.assertNull(new SnapshotStore(directory.resolve("none.snapshot")).load());
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		SnapshotStore store = new SnapshotStore(directory.resolve("device.snapshot"));
+		Map<String, String> stats = new HashMap<>();
+		stats.put("Version", "4.1.2");
+		stats.put("Empty", null);
+		Map<String, SectionSnapshot> sections = Collections.singletonMap("System", new SectionSnapshot(stats, 42));
+		Map<String, StreamEntry> streams = Collections.singletonMap("aaaaaaaa-1111",
+				new StreamEntry(-7L, "Cam", Collections.singletonMap("Stream_Cam#Mode", "Transcoder"), true));
+		GenericStatistics generic = new GenericStatistics();
+		generic.setUpTime(100000L);
+		store.save(new PersistedSnapshot(7, stats, sections, Collections.singletonMap("k", "v"), streams, generic));
+		store.save(new PersistedSnapshot(8, stats, sections, Collections.singletonMap("k", "v"), streams, generic));
+
+		PersistedSnapshot snapshot = store.load();
+		Assert.assertEquals(8, snapshot.getSavedAt());
+		Assert.assertEquals(stats, snapshot.getStatistics());
+		Assert.assertEquals(42, snapshot.getSections().get("System").getTimestamp());
+		Assert.assertEquals(stats, snapshot.getSections().get("System").getValues());
+		Assert.assertEquals("v", snapshot.getCache().get("k"));
+		StreamEntry stream = snapshot.getStreams().get("aaaaaaaa-1111");
+		Assert.assertTrue(stream.isReusableFor(-7L, "Cam"));
+		Assert.assertEquals("Transcoder", stream.getProperties().get("Stream_Cam#Mode"));
+		Assert.assertNull(snapshot.getGenericStatistics().getCpuPercentage());
+		Assert.assertEquals(Long.valueOf(100000L), snapshot.getGenericStatistics().getUpTime());
+		try (Stream<Path> files = Files.list(directory)) {
+			Assert.assertEquals("temporary files are removed", 1, files.count());
+		}
+	}
+}
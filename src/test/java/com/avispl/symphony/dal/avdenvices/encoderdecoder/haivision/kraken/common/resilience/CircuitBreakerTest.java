@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class CircuitBreakerTest {
+	private final AtomicLong now = new AtomicLong(1000);
+
+	@Test
+	void testOpensAfterThreshold() {
+		CircuitBreaker breaker = new CircuitBreaker(2, 60000, 120000, now::get);
+		Assert.assertTrue(breaker.allowRequest());
+		breaker.recordFailure();
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		breaker.recordFailure();
+		Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assert.assertFalse(breaker.allowRequest());
+		Assert.assertEquals(1, breaker.getRejectedRequests());
+	}
+
+	@Test
+	void testBackoffWithinJitterBounds() {
+		CircuitBreaker breaker = new CircuitBreaker(1, 1000, 1000, now::get);
+		breaker.recordFailure();
+		long remaining = breaker.getRemainingBackoffMillis();
+		Assert.assertTrue(remaining >= 500 && remaining <= 1000);
+		now.addAndGet(499);
+		Assert.assertFalse(breaker.allowRequest());
+		now.addAndGet(501);
+		Assert.assertTrue(breaker.allowRequest());
+	}
+
+	@Test
+	void testHalfOpenTrial() {
+		CircuitBreaker breaker = new CircuitBreaker(1, 100, 100, now::get);
+		breaker.recordFailure();
+		Assert.assertFalse(breaker.allowRequest());
+		now.addAndGet(100);
+		Assert.assertTrue(breaker.allowRequest());
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		Assert.assertFalse(breaker.allowRequest());
+		breaker.recordSuccess();
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		Assert.assertTrue(breaker.allowRequest());
+	}
+
+	@Test
+	void testFailedTrialDoublesBackoff() {
+		CircuitBreaker breaker = new CircuitBreaker(1, 100, 1000, now::get);
+		breaker.recordFailure();
+		now.addAndGet(100);
+		Assert.assertTrue(breaker.allowRequest());
+		breaker.recordFailure();
+		Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		long remaining = breaker.getRemainingBackoffMillis();
+		Assert.assertTrue(remaining >= 100 && remaining <= 200);
+	}
+
+	@Test
+	void testReleasedTrialIsAdmittedAgain() {
+		CircuitBreaker breaker = new CircuitBreaker(1, 100, 1000, now::get);
+		breaker.recordFailure();
+		now.addAndGet(100);
+		Assert.assertTrue(breaker.allowRequest());
+		breaker.releaseTrial();
+		Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assert.assertEquals(0, breaker.getRemainingBackoffMillis());
+		Assert.assertTrue(breaker.allowRequest());
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		breaker.recordFailure();
+		Assert.assertEquals("giving a trial back does not count as an open", CircuitBreaker.State.OPEN, breaker.getState());
+		long remaining = breaker.getRemainingBackoffMillis();
+		Assert.assertTrue(remaining >= 100 && remaining <= 200);
+	}
+}
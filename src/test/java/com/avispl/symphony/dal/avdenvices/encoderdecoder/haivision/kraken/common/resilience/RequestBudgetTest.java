@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Tag;
+
+@Tag("Mock")
+public class RequestBudgetTest {
+	private static final long NO_AGING = TimeUnit.HOURS.toNanos(1);
+
+	private final List<RequestPriority> admitted = Collections.synchronizedList(new ArrayList<>());
+
+	@Test
+	void testBurstThenRefill() throws Exception {
+		RequestBudget budget = new RequestBudget(10, 0);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue("one second worth of tokens is available at once", budget.acquire(RequestPriority.HIGH, 1, TimeUnit.SECONDS) < TimeUnit.MILLISECONDS.toNanos(50));
+			budget.release();
+		}
+		long waited = budget.acquire(RequestPriority.HIGH, 1, TimeUnit.SECONDS);
+		budget.release();
+		Assert.assertTrue("the next token is refilled after 100 ms: " + waited, waited >= TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	@Test
+	void testRateShorterThanTheTimeout() throws Exception {
+		RequestBudget budget = new RequestBudget(1, 0);
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+		budget.release();
+		try {
+			budget.acquire(RequestPriority.HIGH, 50, TimeUnit.MILLISECONDS);
+			Assert.fail("no token is refilled within the timeout");
+		} catch (TimeoutException e) {
+			// expected
+		}
+	}
+
+	@Test
+	void testInFlightLimit() throws Exception {
+		RequestBudget budget = new RequestBudget(0, 2);
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 2; i++) {
+			try {
+				budget.acquire(RequestPriority.HIGH, 20, TimeUnit.MILLISECONDS);
+				Assert.fail("both slots are in flight");
+			} catch (TimeoutException e) {
+				// a timed out request holds no slot
+			}
+		}
+		budget.release();
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	void testDisabledLimits() throws Exception {
+		RequestBudget budget = new RequestBudget(0, 0);
+		for (int i = 0; i < 100; i++) {
+			budget.acquire(RequestPriority.LOW, 0, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Test
+	void testAdmittedByPriorityThenArrival() throws Exception {
+		RequestBudget budget = new RequestBudget(0, 1, NO_AGING);
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+		List<Thread> threads = new ArrayList<>();
+		for (RequestPriority priority : Arrays.asList(RequestPriority.LOW, RequestPriority.NORMAL, RequestPriority.HIGH, RequestPriority.LOW)) {
+			threads.add(waitFor(budget, priority));
+		}
+		budget.release();
+		for (Thread thread : threads) {
+			thread.join(5000);
+		}
+		Assert.assertEquals(Arrays.asList(RequestPriority.HIGH, RequestPriority.NORMAL, RequestPriority.LOW, RequestPriority.LOW), admitted);
+	}
+
+	@Test
+	void testWaitingRequestsAge() throws Exception {
+		long agingNanos = TimeUnit.MILLISECONDS.toNanos(50);
+		RequestBudget budget = new RequestBudget(0, 1, agingNanos);
+		budget.acquire(RequestPriority.HIGH, 0, TimeUnit.MILLISECONDS);
+		List<Thread> threads = new ArrayList<>();
+		threads.add(waitFor(budget, RequestPriority.LOW));
+		// the low priority request has waited two aging intervals, as long as the high priority ones arriving now
+		Thread.sleep(TimeUnit.NANOSECONDS.toMillis(agingNanos) * 3);
+		threads.add(waitFor(budget, RequestPriority.HIGH));
+		threads.add(waitFor(budget, RequestPriority.HIGH));
+		budget.release();
+		for (Thread thread : threads) {
+			thread.join(5000);
+		}
+		Assert.assertEquals(Arrays.asList(RequestPriority.LOW, RequestPriority.HIGH, RequestPriority.HIGH), admitted);
+	}
+
+	/**
+	 * Start a request waiting for the budget, recording when it is admitted
+	 */
+	private Thread waitFor(RequestBudget budget, RequestPriority priority) throws InterruptedException {
+		Thread thread = new Thread(() -> {
+			try {
+				budget.acquire(priority, 5, TimeUnit.SECONDS);
+				admitted.add(priority);
+				budget.release();
+			} catch (InterruptedException | TimeoutException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		// let the request queue up before the next one
+		Thread.sleep(20);
+		return thread;
+	}
+}
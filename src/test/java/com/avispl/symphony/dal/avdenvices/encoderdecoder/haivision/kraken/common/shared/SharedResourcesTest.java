@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.shared;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.capability.DeviceCapabilities;
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.resilience.RequestBudget;
+
+@Tag("Mock")
+public class SharedResourcesTest {
+	private SharedResources resources;
+
+	@BeforeEach
+	void setUp() {
+		resources = SharedResources.acquire();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SharedResources.release(resources);
+	}
+
+	@Test
+	void testHostResourcesAreSharedPerHost() {
+		HostResources first = resources.acquireHost("10.0.0.1");
+		HostResources second = resources.acquireHost("10.0.0.1");
+		HostResources other = resources.acquireHost("10.0.0.2");
+		try {
+			Assert.assertSame(first, second);
+			Assert.assertNotSame(first, other);
+			Assert.assertSame(first.getRequestBudget(5, 2), second.getRequestBudget(5, 2));
+		} finally {
+			resources.releaseHost(first);
+			resources.releaseHost(second);
+			resources.releaseHost(other);
+		}
+	}
+
+	@Test
+	void testHostResourcesAreDroppedWithTheLastReference() {
+		HostResources first = resources.acquireHost("10.0.0.1");
+		HostResources second = resources.acquireHost("10.0.0.1");
+		RequestBudget budget = first.getRequestBudget(5, 2);
+		resources.releaseHost(first);
+		Assert.assertSame("still held by the second instance", second, resources.acquireHost("10.0.0.1"));
+		resources.releaseHost(second);
+		resources.releaseHost(second);
+
+		HostResources next = resources.acquireHost("10.0.0.1");
+		try {
+			Assert.assertNotSame(first, next);
+			Assert.assertNotSame(budget, next.getRequestBudget(5, 2));
+		} finally {
+			resources.releaseHost(next);
+		}
+	}
+
+	@Test
+	void testCapabilitiesFollowTheFirmwareVersion() {
+		HostResources host = resources.acquireHost("10.0.0.1");
+		DeviceCapabilities capabilities = host.getCapabilities("4.1.2");
+		try {
+			Assert.assertSame(capabilities, host.getCapabilities("4.1.2"));
+			DeviceCapabilities upgraded = host.getCapabilities("4.2.0");
+			Assert.assertNotSame(capabilities, upgraded);
+			Assert.assertEquals("4.2.0", upgraded.getVersion());
+		} finally {
+			resources.releaseHost(host);
+		}
+		HostResources next = resources.acquireHost("10.0.0.1");
+		try {
+			Assert.assertNotSame("capabilities are dropped with the last instance of the host", capabilities, next.getCapabilities("4.1.2"));
+		} finally {
+			resources.releaseHost(next);
+		}
+	}
+}
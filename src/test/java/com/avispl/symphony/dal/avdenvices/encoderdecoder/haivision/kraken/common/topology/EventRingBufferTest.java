@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class EventRingBufferTest {
+
+	@Test
+	void testRecentIsNewestFirst() {
+		EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+		Assert.assertEquals(Collections.emptyList(), buffer.recent(4));
+		buffer.add(1);
+		buffer.add(2);
+		buffer.add(3);
+		Assert.assertEquals(Arrays.asList(3, 2, 1), buffer.recent(10));
+		Assert.assertEquals(Arrays.asList(3, 2), buffer.recent(2));
+		Assert.assertEquals(Collections.emptyList(), buffer.recent(0));
+	}
+
+	@Test
+	void testWrapAroundKeepsTheLatest() {
+		EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+		for (int i = 1; i <= 8; i++) {
+			buffer.add(i);
+		}
+		Assert.assertEquals(Arrays.asList(8, 7, 6), buffer.recent(10));
+		Assert.assertEquals(8, buffer.getWritten());
+	}
+
+	@Test
+	void testClear() {
+		EventRingBuffer<Integer> buffer = new EventRingBuffer<>(2);
+		buffer.add(1);
+		buffer.add(2);
+		buffer.add(3);
+		buffer.clear();
+		Assert.assertEquals(Collections.emptyList(), buffer.recent(2));
+		Assert.assertEquals(0, buffer.getWritten());
+		buffer.add(4);
+		Assert.assertEquals(Collections.singletonList(4), buffer.recent(2));
+	}
+
+	@Test
+	void testConcurrentWritersLoseNothingWithinCapacity() throws Exception {
+		int writers = 4;
+		int perWriter = 250;
+		EventRingBuffer<Integer> buffer = new EventRingBuffer<>(writers * perWriter);
+		ExecutorService executor = Executors.newFixedThreadPool(writers);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			for (int w = 0; w < writers; w++) {
+				int base = w * perWriter;
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < perWriter; i++) {
+						buffer.add(base + i);
+					}
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+		List<Integer> recent = buffer.recent(writers * perWriter);
+		Set<Integer> distinct = ConcurrentHashMap.newKeySet();
+		distinct.addAll(recent);
+		Assert.assertEquals(writers * perWriter, recent.size());
+		Assert.assertEquals(writers * perWriter, distinct.size());
+	}
+}
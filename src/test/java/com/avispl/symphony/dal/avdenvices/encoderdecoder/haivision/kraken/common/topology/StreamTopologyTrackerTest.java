@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.topology;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.dto.TopologyEvent;
+
+@Tag("Mock")
+public class StreamTopologyTrackerTest {
+
+	@Test
+	void testFirstUpdateIsTheBaseline() {
+		StreamTopologyTracker tracker = new StreamTopologyTracker(8);
+		tracker.update(streams("a", "Cam", "in1>out1"));
+		Assert.assertTrue(tracker.recent(8).isEmpty());
+		Assert.assertEquals(0, tracker.getCount(TopologyEventType.CREATED));
+	}
+
+	@Test
+	void testChangesAreKeyedByUuid() {
+		StreamTopologyTracker tracker = new StreamTopologyTracker(8);
+		tracker.update(streams("a", "Cam", "in1>out1", "b", "Stage", "in2>out2"));
+		// a renamed and rewired, b deleted, c created with the former name of a
+		tracker.update(streams("a", "Lobby", "in1>out3", "c", "Cam", "in4>out4"));
+
+		List<TopologyEvent> events = tracker.recent(8);
+		Assert.assertEquals(4, events.size());
+		Assert.assertEquals(1, tracker.getCount(TopologyEventType.CREATED));
+		Assert.assertEquals(1, tracker.getCount(TopologyEventType.DELETED));
+		Assert.assertEquals(1, tracker.getCount(TopologyEventType.RENAMED));
+		Assert.assertEquals(1, tracker.getCount(TopologyEventType.REWIRED));
+		for (TopologyEvent event : events) {
+			switch (event.getType()) {
+				case CREATED:
+					Assert.assertEquals("c", event.getUuid());
+					break;
+				case DELETED:
+					Assert.assertEquals("b", event.getUuid());
+					Assert.assertEquals("Stage", event.getName());
+					break;
+				case RENAMED:
+					Assert.assertEquals("a", event.getUuid());
+					Assert.assertEquals("from Cam", event.getDetail());
+					break;
+				default:
+					Assert.assertEquals("a", event.getUuid());
+					break;
+			}
+		}
+	}
+
+	@Test
+	void testUnchangedStreamsRecordNothing() {
+		StreamTopologyTracker tracker = new StreamTopologyTracker(8);
+		tracker.update(streams("a", "Cam", "in1>out1"));
+		tracker.update(streams("a", "Cam", "in1>out1"));
+		Assert.assertTrue(tracker.recent(8).isEmpty());
+	}
+
+	@Test
+	void testCountsOutliveTheRing() {
+		StreamTopologyTracker tracker = new StreamTopologyTracker(2);
+		tracker.update(new HashMap<>());
+		tracker.update(streams("a", "A", "w", "b", "B", "w", "c", "C", "w"));
+		Assert.assertEquals(2, tracker.recent(8).size());
+		Assert.assertEquals(3, tracker.getCount(TopologyEventType.CREATED));
+		tracker.reset();
+		Assert.assertEquals(0, tracker.getCount(TopologyEventType.CREATED));
+		tracker.update(streams("a", "A", "w"));
+		Assert.assertTrue("reset forgets the baseline", tracker.recent(8).isEmpty());
+	}
+
+	private static Map<String, StreamTopologyTracker.StreamState> streams(String... values) {
+		Map<String, StreamTopologyTracker.StreamState> streams = new HashMap<>();
+		for (int i = 0; i < values.length; i += 3) {
+			streams.put(values[i], new StreamTopologyTracker.StreamState(values[i + 1], values[i + 2]));
+		}
+		return streams;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.trace;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("Mock")
+public class PollTracerTest {
+	private final PollTracer tracer = new PollTracer(2, 16);
+
+	@Test
+	void testNothingIsTracedOutsideAPoll() {
+		Callable<String> task = () -> "done";
+		Assert.assertNull(tracer.start("Section"));
+		Assert.assertSame(task, tracer.wrap(task));
+		tracer.end(null);
+		Assert.assertNull(tracer.getSlowest());
+	}
+
+	@Test
+	void testSpansNestUnderTheCurrentSpan() {
+		PollTrace trace = tracer.begin();
+		TraceSpan section = tracer.start("Section");
+		TraceSpan request = tracer.start("Request");
+		tracer.end(request);
+		tracer.end(section);
+		TraceSpan next = tracer.start("Next");
+		tracer.end(next);
+		tracer.finish(trace);
+
+		Assert.assertSame(trace.getRoot(), section.getParent());
+		Assert.assertSame(section, request.getParent());
+		Assert.assertSame(trace.getRoot(), next.getParent());
+		Assert.assertEquals(Arrays.asList(section, next), trace.getTopLevelSpans());
+		Assert.assertTrue(trace.getRoot().isEnded());
+		Assert.assertNull("the poll is over", tracer.start("Late"));
+		Assert.assertSame(trace, tracer.getSlowest());
+	}
+
+	@Test
+	void testWrappedTaskCarriesTheSpanToAnotherThread() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			PollTrace trace = tracer.begin();
+			TraceSpan section = tracer.start("Section");
+			TraceSpan child = executor.submit(tracer.wrap(() -> {
+				TraceSpan span = tracer.start("Lookup");
+				tracer.end(span);
+				return span;
+			})).get();
+			Assert.assertNull("the worker thread is left outside the poll", executor.submit(() -> tracer.start("Other")).get());
+			tracer.end(section);
+			tracer.finish(trace);
+
+			Assert.assertSame(section, child.getParent());
+			Assert.assertTrue(child.isEnded());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testSpansBeyondTheLimitAreOnlyCounted() {
+		PollTracer limited = new PollTracer(1, 3);
+		PollTrace trace = limited.begin();
+		for (int i = 0; i < 4; i++) {
+			limited.end(limited.start("Span" + i));
+		}
+		TraceSpan running = limited.start("Running");
+		Assert.assertNotNull("spans not kept are still handed to their callers", running);
+		limited.finish(trace);
+
+		Assert.assertEquals(2, trace.getTopLevelSpans().size());
+		String dump = trace.dump();
+		Assert.assertTrue(dump, dump.startsWith("Trace " + trace.getId()));
+		Assert.assertTrue(dump, dump.contains("(3 spans not kept)"));
+		Assert.assertTrue(dump, dump.contains("Span0") && dump.contains("Span1"));
+		Assert.assertFalse(dump, dump.contains("Span2") || dump.contains("Running"));
+	}
+
+	@Test
+	void testDumpRendersTheTree() {
+		PollTrace trace = tracer.begin();
+		TraceSpan section = tracer.start("Section");
+		tracer.end(tracer.start("Request"));
+		tracer.start("Running");
+
+		String[] lines = trace.dump().split("\n");
+		Assert.assertEquals(4, lines.length);
+		Assert.assertTrue(lines[1], lines[1].matches(" {2}\\+\\d+ms Section \\d+ms \\(running\\)"));
+		Assert.assertTrue(lines[2], lines[2].matches(" {4}\\+\\d+ms Request \\d+ms"));
+		Assert.assertTrue(lines[3], lines[3].matches(" {4}\\+\\d+ms Running \\d+ms \\(running\\)"));
+		tracer.end(section);
+		tracer.finish(trace);
+	}
+
+	@Test
+	void testOnlyTheFirstEndCounts() throws Exception {
+		PollTrace trace = tracer.begin();
+		TraceSpan span = tracer.start("Section");
+		Assert.assertFalse(span.isEnded());
+		span.end();
+		long duration = span.getDurationMillis();
+		Thread.sleep(20);
+		span.end();
+		tracer.end(span);
+		tracer.finish(trace);
+
+		Assert.assertTrue(span.isEnded());
+		Assert.assertEquals(duration, span.getDurationMillis());
+		Assert.assertTrue(span.getOffsetMillis() >= 0);
+	}
+
+	@Test
+	void testSlowestPathFollowsTheSlowestChild() throws Exception {
+		PollTrace trace = tracer.begin();
+		tracer.end(tracer.start("Fast"));
+		TraceSpan slow = tracer.start("Slow");
+		tracer.end(tracer.start("Quick request"));
+		TraceSpan request = tracer.start("Slow request");
+		Thread.sleep(30);
+		tracer.end(request);
+		tracer.end(slow);
+		tracer.finish(trace);
+
+		List<TraceSpan> path = trace.getSlowestPath();
+		Assert.assertEquals(Arrays.asList(trace.getRoot(), slow, request), path);
+	}
+
+	@Test
+	void testSlowestOfTheKeptPolls() throws Exception {
+		PollTrace slow = tracer.begin();
+		Thread.sleep(30);
+		tracer.finish(slow);
+		PollTrace fast = tracer.begin();
+		tracer.finish(fast);
+		Assert.assertSame(slow, tracer.getSlowest());
+
+		PollTrace latest = tracer.begin();
+		tracer.finish(latest);
+		Assert.assertNotSame("only the last polls are kept", slow, tracer.getSlowest());
+
+		tracer.clear();
+		Assert.assertNull(tracer.getSlowest());
+	}
+}
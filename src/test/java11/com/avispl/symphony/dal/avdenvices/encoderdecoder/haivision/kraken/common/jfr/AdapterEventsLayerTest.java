@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdenvices.encoderdecoder.haivision.kraken.common.jfr;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@Tag("Mock")
+public class AdapterEventsLayerTest {
+	private static final String PREFIX = "com.avispl.haivision.kraken.";
+
+	private URLClassLoader layerLoader;
+	private Class<?> layer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// tests run from the class directory, where the Java 8 no-op implementation is loaded; the Java 11 one
+		// is loaded from its own layer, without delegating to the class path
+		Path classes = Paths.get(AdapterEvents.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		Path versions = classes.resolve("META-INF/versions/11");
+		Assert.assertTrue("the Java 11 layer is compiled", Files.isDirectory(versions));
+		layerLoader = new URLClassLoader(new URL[] { versions.toUri().toURL() }, null);
+		layer = Class.forName(AdapterEvents.class.getName(), true, layerLoader);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		layerLoader.close();
+	}
+
+	@Test
+	void testLayersExposeTheSameApi() {
+		Assert.assertNotSame(AdapterEvents.class, layer);
+		Assert.assertEquals(signatures(AdapterEvents.class), signatures(layer));
+		Assert.assertEquals(AdapterEvents.class.getModifiers(), layer.getModifiers());
+	}
+
+	@Test
+	void testBaseLayerRecordsNothing() throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable(PREFIX + "Request");
+			recording.start();
+			Object token = AdapterEvents.beginRequest("apis/v2/streams");
+			Assert.assertNull(token);
+			AdapterEvents.endRequest(token, 200, 10);
+		}
+	}
+
+	@Test
+	void testNothingIsAllocatedWhileDisabled() throws Exception {
+		Assert.assertNull(invoke("beginPoll"));
+		Assert.assertNull(invoke("beginRequest", "apis/v2/streams"));
+		Assert.assertNull(invoke("beginAuthentication", "Login"));
+		invoke("endRequest", null, 200, 10L);
+		invoke("cacheAccess", "Prefetch", true);
+	}
+
+	@Test
+	void testEventsAreRecorded() throws Exception {
+		Path file = Files.createTempFile("adapter-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (String name : new String[] { "Poll", "Request", "Authentication", "CacheAccess" }) {
+				recording.enable(PREFIX + name).withoutThreshold();
+			}
+			recording.start();
+			Object poll = invoke("beginPoll");
+			Object request = invoke("beginRequest", "apis/v2/streams");
+			invoke("endRequest", request, 200, 1024L);
+			Object login = invoke("beginAuthentication", "Login");
+			invoke("endAuthentication", login, false);
+			invoke("cacheAccess", "Prefetch", true);
+			invoke("endPoll", poll, 42, true);
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().startsWith(PREFIX)).collect(Collectors.toList());
+			Assert.assertEquals(4, events.size());
+			RecordedEvent requestEvent = find(events, "Request");
+			Assert.assertEquals("apis/v2/streams", requestEvent.getString("command"));
+			Assert.assertEquals(200, requestEvent.getInt("status"));
+			Assert.assertEquals(1024L, requestEvent.getLong("bytes"));
+			Assert.assertEquals("Login", find(events, "Authentication").getString("action"));
+			Assert.assertFalse(find(events, "Authentication").getBoolean("success"));
+			Assert.assertEquals("Prefetch", find(events, "CacheAccess").getString("cache"));
+			Assert.assertTrue(find(events, "CacheAccess").getBoolean("hit"));
+			Assert.assertEquals(42, find(events, "Poll").getInt("propertyCount"));
+			Assert.assertTrue(find(events, "Poll").getBoolean("success"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private Object invoke(String name, Object... args) throws Exception {
+		for (Method method : layer.getMethods()) {
+			if (method.getName().equals(name) && method.getParameterCount() == args.length) {
+				return method.invoke(null, args);
+			}
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	private static RecordedEvent find(List<RecordedEvent> events, String name) {
+		return events.stream().filter(event -> event.getEventType().getName().equals(PREFIX + name)).findFirst()
+				.orElseThrow(() -> new AssertionError(name + " was not recorded"));
+	}
+
+	private static Set<String> signatures(Class<?> type) {
+		return Arrays.stream(type.getDeclaredMethods()).filter(method -> Modifier.isPublic(method.getModifiers()))
+				.map(method -> Modifier.toString(method.getModifiers()) + " " + method.getReturnType().getName() + " " + method.getName()
+						+ Arrays.stream(method.getParameterTypes()).map(Class::getName).collect(Collectors.joining(",", "(", ")")))
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+}